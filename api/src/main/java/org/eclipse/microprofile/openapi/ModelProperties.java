@@ -0,0 +1,391 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.models.Constructible;
+import org.eclipse.microprofile.openapi.models.Extensible;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.responses.APIResponses;
+import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
+
+/**
+ * Generic, implementation independent view of the properties of OpenAPI model objects, keyed by the names the
+ * properties have in an OpenAPI document. The view is built from the getter methods of the model interfaces, so it
+ * works with the model classes of any vendor.
+ */
+final class ModelProperties {
+
+    private static final String MODELS_PACKAGE = "org.eclipse.microprofile.openapi.models";
+
+    private static final ClassValue<Accessor[]> ACCESSORS = new ClassValue<Accessor[]>() {
+        @Override
+        protected Accessor[] computeValue(Class<?> type) {
+            Class<?> model = modelInterface(type);
+            return model == null ? null : accessors(model);
+        }
+    };
+
+    private ModelProperties() {
+    }
+
+    /**
+     * Returns whether the given value is an OpenAPI model object whose properties can be listed.
+     *
+     * @param value
+     *            any value
+     * @return true if {@link #of(Object)} can be called for the value
+     */
+    static boolean isModel(Object value) {
+        return value instanceof Constructible && ACCESSORS.get(value.getClass()) != null;
+    }
+
+    /**
+     * Returns the model interface implemented by the given model object, e.g. {@code Schema.class}.
+     *
+     * @param value
+     *            a model object
+     * @return the model interface, or null if the value is not a model object
+     */
+    static Class<?> modelType(Object value) {
+        return value instanceof Constructible ? modelInterface(value.getClass()) : null;
+    }
+
+    /**
+     * Returns the properties of a model object. Null properties and empty collections are omitted. Maps which are not a
+     * property of their own in the OpenAPI document (such as the path items of {@link Paths} or the extensions of an
+     * {@link Extensible}) are merged into the returned map.
+     *
+     * @param model
+     *            a model object, see {@link #isModel(Object)}
+     * @return an ordered map from property name to value
+     */
+    static Map<String, Object> of(Object model) {
+        Accessor[] accessors = ACCESSORS.get(model.getClass());
+        Map<String, Object> properties = new LinkedHashMap<>();
+        for (Accessor accessor : accessors) {
+            Object value = accessor.get(model);
+            if (isEmpty(value)) {
+                continue;
+            }
+            if (accessor.flatten) {
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    if (entry.getValue() != null) {
+                        properties.putIfAbsent(String.valueOf(entry.getKey()), entry.getValue());
+                    }
+                }
+            } else {
+                properties.putIfAbsent(accessor.name, value);
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Returns the accessors of the properties of a model object, in the same order as {@link #of(Object)}.
+     *
+     * @param model
+     *            a model object, see {@link #isModel(Object)}
+     * @return the property accessors
+     */
+    static List<Accessor> accessors(Object model) {
+        return Arrays.asList(ACCESSORS.get(model.getClass()));
+    }
+
+    /**
+     * Returns whether a property value is absent in an OpenAPI document, i.e. null or an empty collection. A model
+     * object is never absent, even if it implements {@link Map} and has no entries, since an empty object such as a
+     * security requirement is meaningful.
+     *
+     * @param value
+     *            a property value
+     * @return true if the value is null or an empty map or collection which is not a model object
+     */
+    static boolean isEmpty(Object value) {
+        if (value == null) {
+            return true;
+        }
+        if (isModel(value)) {
+            return false;
+        }
+        return (value instanceof Map && ((Map<?, ?>) value).isEmpty())
+                || (value instanceof Collection && ((Collection<?>) value).isEmpty());
+    }
+
+    /**
+     * Compares two leaf values. Numbers are compared by value, so that {@code 1.0} and {@code 1.00} are equal.
+     *
+     * @param a
+     *            first value
+     * @param b
+     *            second value
+     * @return true if the values are equal
+     */
+    static boolean leafEquals(Object a, Object b) {
+        if (a instanceof BigDecimal && b instanceof BigDecimal) {
+            return ((BigDecimal) a).compareTo((BigDecimal) b) == 0;
+        }
+        return Objects.equals(a, b);
+    }
+
+    /**
+     * Converts a value to a tree made only of maps, lists, strings, numbers, booleans and nulls, which can be written
+     * by any JSON or YAML library.
+     *
+     * @param value
+     *            a model object, collection or leaf value
+     * @return the JSON compatible representation of the value
+     * @throws IllegalArgumentException
+     *             if the value contains a cycle
+     */
+    static Object toJson(Object value) {
+        return toJson(value, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    private static Object toJson(Object value, Set<Object> path) {
+        if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof Enum) {
+            return value.toString();
+        }
+        boolean model = isModel(value);
+        if (!model && !(value instanceof Map) && !(value instanceof Collection)) {
+            return value;
+        }
+        if (!path.add(value)) {
+            throw new IllegalArgumentException("The model contains a cycle and cannot be converted to JSON");
+        }
+        try {
+            if (value instanceof Collection) {
+                List<Object> list = new ArrayList<>(((Collection<?>) value).size());
+                for (Object item : (Collection<?>) value) {
+                    list.add(toJson(item, path));
+                }
+                return list;
+            }
+            Map<?, ?> map = model ? of(value) : (Map<?, ?>) value;
+            Map<String, Object> json = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                json.put(String.valueOf(entry.getKey()), toJson(entry.getValue(), path));
+            }
+            return json;
+        } finally {
+            path.remove(value);
+        }
+    }
+
+    private static Class<?> modelInterface(Class<?> type) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            for (Class<?> i : c.getInterfaces()) {
+                Class<?> model = findModelInterface(i);
+                if (model != null) {
+                    return model;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Class<?> findModelInterface(Class<?> type) {
+        if (type != Constructible.class && Constructible.class.isAssignableFrom(type)
+                && type.getName().startsWith(MODELS_PACKAGE)) {
+            return type;
+        }
+        for (Class<?> i : type.getInterfaces()) {
+            Class<?> model = findModelInterface(i);
+            if (model != null) {
+                return model;
+            }
+        }
+        return null;
+    }
+
+    private static Accessor[] accessors(Class<?> model) {
+        List<Accessor> properties = new ArrayList<>();
+        List<Accessor> maps = new ArrayList<>();
+        Accessor extensions = null;
+        for (Method m : model.getMethods()) {
+            String getter = m.getName();
+            if (!isGetter(m) || setter(model, m) == null) {
+                continue;
+            }
+            Method setter = setter(model, m);
+            if (getter.equals("getExtensions")) {
+                extensions = new Accessor(null, m, setter, true);
+            } else if (isFlattened(model, getter)) {
+                maps.add(new Accessor(null, m, setter, true));
+            } else {
+                String name = propertyName(model, getter);
+                if (name != null) {
+                    properties.add(new Accessor(name, m, setter, false));
+                }
+            }
+        }
+        properties.sort(Comparator.comparing((Accessor a) -> a.name).thenComparing(a -> a.method.getName()));
+        properties.addAll(maps);
+        if (extensions != null) {
+            properties.add(extensions);
+        }
+        return properties.toArray(new Accessor[0]);
+    }
+
+    private static boolean isGetter(Method m) {
+        return m.getName().startsWith("get") && m.getName().length() > 3 && m.getParameterCount() == 0
+                && !m.isDefault() && !Modifier.isStatic(m.getModifiers())
+                && m.getDeclaringClass().getName().startsWith(MODELS_PACKAGE);
+    }
+
+    private static Method setter(Class<?> model, Method getter) {
+        String setter = "set" + getter.getName().substring(3);
+        for (Method m : model.getMethods()) {
+            if (m.getName().equals(setter) && m.getParameterCount() == 1) {
+                return m;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isFlattened(Class<?> model, String getter) {
+        return (model == Paths.class && getter.equals("getPathItems"))
+                || (model == Callback.class && getter.equals("getPathItems"))
+                || (model == Content.class && getter.equals("getMediaTypes"))
+                || (model == APIResponses.class && getter.equals("getAPIResponses"))
+                || (model == SecurityRequirement.class && getter.equals("getSchemes"));
+    }
+
+    private static String propertyName(Class<?> model, String getter) {
+        if (model == PathItem.class && getter.length() > 3 && getter.substring(3).equals(
+                getter.substring(3).toUpperCase(Locale.ROOT))) {
+            // getGET(), getPUT(), ...
+            return getter.substring(3).toLowerCase(Locale.ROOT);
+        }
+        switch (getter) {
+            case "getRef" :
+                return "$ref";
+            case "getEnumeration" :
+                return "enum";
+            case "getDefaultValue" :
+                // APIResponses.getDefaultValue() is a view of the "default" entry of the responses map
+                return model == APIResponses.class ? null : "default";
+            case "getAdditionalPropertiesSchema" :
+            case "getAdditionalPropertiesBoolean" :
+                return "additionalProperties";
+            default :
+                return Character.toLowerCase(getter.charAt(3)) + getter.substring(4);
+        }
+    }
+
+    /**
+     * Reads and writes one property of a model interface.
+     */
+    static final class Accessor {
+        private final String name;
+        private final Method method;
+        private final Method setter;
+        private final boolean flatten;
+        private final Class<?> elementType;
+
+        Accessor(String name, Method method, Method setter, boolean flatten) {
+            this.name = name;
+            this.method = method;
+            this.setter = setter;
+            this.flatten = flatten;
+            this.elementType = elementType(method);
+        }
+
+        /**
+         * Returns the name of the property in an OpenAPI document.
+         *
+         * @return the property name, or null if the entries of the property are merged into the properties of the model
+         */
+        String name() {
+            return name;
+        }
+
+        /**
+         * Returns whether the entries of this map property are merged into the properties of the model, as for the path
+         * items of {@link Paths}.
+         *
+         * @return true if the property is flattened
+         */
+        boolean isFlattened() {
+            return flatten;
+        }
+
+        /**
+         * Returns the type of the property, or the type of its entries if the property is a map or a list.
+         *
+         * @return the element type, e.g. {@code Schema.class} for {@code Schema.getAllOf()}
+         */
+        Class<?> elementType() {
+            return elementType;
+        }
+
+        Object get(Object target) {
+            return invoke(method, target);
+        }
+
+        void set(Object target, Object value) {
+            invoke(setter, target, value);
+        }
+
+        private static Object invoke(Method method, Object target, Object... args) {
+            try {
+                return method.invoke(target, args);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Invocation of " + method + " failed", e);
+            }
+        }
+
+        private static Class<?> elementType(Method getter) {
+            Type type = getter.getGenericReturnType();
+            if (type instanceof ParameterizedType) {
+                Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+                Type element = arguments[arguments.length - 1];
+                if (element instanceof Class) {
+                    return (Class<?>) element;
+                }
+                if (element instanceof ParameterizedType) {
+                    return (Class<?>) ((ParameterizedType) element).getRawType();
+                }
+                return Object.class;
+            }
+            return getter.getReturnType();
+        }
+    }
+}
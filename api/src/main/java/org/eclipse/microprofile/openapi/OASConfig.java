@@ -25,6 +25,9 @@ public final class OASConfig {
 
     /**
      * Configuration property to specify the fully qualified name of the OASModelReader implementation.
+     * <p>
+     * Since 3.2, the value can also be a comma separated list of fully qualified names. The model readers are run
+     * concurrently and their models are merged in the listed order, the later models overriding the earlier ones.
      * 
      * @see org.eclipse.microprofile.openapi.OASModelReader
      */
@@ -97,6 +100,72 @@ public final class OASConfig {
      */
     public static final String SCHEMA_PREFIX = "mp.openapi.schema.";
 
+    /**
+     * Configuration property to enable reloading of the OpenAPI document when the static file or the
+     * <code>mp.openapi</code> configuration changes. Default value is <code>false</code>.
+     *
+     * @since 3.2
+     */
+    public static final String RELOAD_ENABLE = "mp.openapi.reload.enable";
+
+    /**
+     * Configuration property to enable the deduplication of structurally equivalent schemas in the final document.
+     * Default value is <code>false</code>.
+     *
+     * @see org.eclipse.microprofile.openapi.OASSchemaDeduplicator
+     * @since 3.2
+     */
+    public static final String SCHEMAS_DEDUPLICATE = "mp.openapi.schemas.deduplicate";
+
+    /**
+     * Configuration property to specify the minimum number of inline occurrences of an object or composed schema for it
+     * to be moved to the components of the document when schemas are deduplicated. Default value is <code>0</code>,
+     * which disables the extraction of schemas.
+     *
+     * @see #SCHEMAS_DEDUPLICATE
+     * @since 3.2
+     */
+    public static final String SCHEMAS_EXTRACT_THRESHOLD = "mp.openapi.schemas.extract.threshold";
+
+    /**
+     * Configuration property to enable the validation of the final document and the reporting of its violations.
+     * Default value is <code>false</code>.
+     *
+     * @see OASValidator
+     * @since 3.2
+     */
+    public static final String VALIDATION_ENABLE = "mp.openapi.validation.enable";
+
+    /**
+     * Configuration property to specify the fully qualified name of the OASProcessingListener implementation.
+     *
+     * @see org.eclipse.microprofile.openapi.OASProcessingListener
+     * @since 3.2
+     */
+    public static final String PROCESSING_LISTENER = "mp.openapi.processing.listener";
+
+    /**
+     * Configuration property to specify when the OpenAPI document is generated: <code>eager</code> during the
+     * deployment of the application, <code>lazy</code> when the OpenAPI endpoint is first requested, or
+     * <code>background</code> on a separate thread, concurrently with the rest of the deployment. Default value is
+     * <code>eager</code>.
+     * <p>
+     * With <code>background</code> generation, the OpenAPI endpoint responds with the status 503 (Service Unavailable)
+     * and a <code>Retry-After</code> header until the document is generated.
+     *
+     * @since 3.2
+     */
+    public static final String GENERATION = "mp.openapi.generation";
+
+    /**
+     * Configuration property to make the readiness of the application depend on the completion of the
+     * <code>background</code> generation of the document. Default value is <code>false</code>.
+     *
+     * @see #GENERATION
+     * @since 3.2
+     */
+    public static final String GENERATION_READINESS = "mp.openapi.generation.readiness";
+
     /**
      * Recommended prefix for vendor specific configuration properties.
      * 
@@ -0,0 +1,380 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.models.Constructible;
+
+/**
+ * The structural differences between two OpenAPI model trees, for example two builds of the same document.
+ * <p>
+ * The differences are computed over the model interfaces, so the trees may be created by any vendor implementation.
+ * Every difference is located with a <a href="https://tools.ietf.org/html/rfc6901">JSON Pointer</a> into the OpenAPI
+ * document, and the whole diff can be rendered as a <a href="https://tools.ietf.org/html/rfc6902">JSON Patch</a> that
+ * transforms the source document into the target document.
+ * <p>
+ * Subtrees that are shared by both trees (i.e. the same instance) or structurally equivalent (see
+ * {@link OASEquivalence}) are not visited, so the cost of comparing two trees that were derived from each other is
+ * proportional to the size of the changed parts. Values are considered absent as for {@link OASEquivalence}.
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * <code>OASDiff diff = OASDiff.between(previous, current);
+ * for (OASDiff.Change change : diff.getChanges()) {
+ *     System.out.println(change.getType() + " " + change.getPath());
+ * }
+ * </code>
+ * </pre>
+ *
+ * @since 3.2
+ */
+public final class OASDiff {
+
+    /**
+     * The kinds of differences between two model trees.
+     */
+    public enum ChangeType {
+        /**
+         * The element is only present in the target tree.
+         */
+        ADDED("add"),
+        /**
+         * The element is only present in the source tree.
+         */
+        REMOVED("remove"),
+        /**
+         * The element is present in both trees, with different values.
+         */
+        CHANGED("replace");
+
+        private final String operation;
+
+        ChangeType(String operation) {
+            this.operation = operation;
+        }
+
+        /**
+         * Returns the JSON Patch operation corresponding to this type of change.
+         *
+         * @return "add", "remove" or "replace"
+         */
+        public String getOperation() {
+            return operation;
+        }
+    }
+
+    /**
+     * A single difference between two model trees.
+     */
+    public static final class Change {
+        private final ChangeType type;
+        private final String path;
+        private final Object source;
+        private final Object target;
+
+        Change(ChangeType type, String path, Object source, Object target) {
+            this.type = type;
+            this.path = path;
+            this.source = source;
+            this.target = target;
+        }
+
+        /**
+         * Returns the type of this change.
+         *
+         * @return the type of this change
+         */
+        public ChangeType getType() {
+            return type;
+        }
+
+        /**
+         * Returns the location of this change as a JSON Pointer, e.g. {@code /paths/~1pets/get/parameters/0}.
+         *
+         * @return the JSON Pointer to the changed element
+         */
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * Returns the value in the source tree.
+         *
+         * @return the model object, collection or value from the source tree, or null if the element was added
+         */
+        public Object getSource() {
+            return source;
+        }
+
+        /**
+         * Returns the value in the target tree.
+         *
+         * @return the model object, collection or value from the target tree, or null if the element was removed
+         */
+        public Object getTarget() {
+            return target;
+        }
+
+        @Override
+        public String toString() {
+            return type.getOperation() + " " + path;
+        }
+    }
+
+    private static final String PATHS_PREFIX = "/paths/";
+
+    private final List<Change> changes;
+
+    private OASDiff(List<Change> changes) {
+        this.changes = Collections.unmodifiableList(changes);
+    }
+
+    /**
+     * Computes the differences between two model trees. The trees are usually
+     * {@link org.eclipse.microprofile.openapi.models.OpenAPI OpenAPI} documents, but any two elements of the same model
+     * type can be compared, in which case the paths of the changes are relative to these elements.
+     *
+     * @param <T>
+     *            the type of the compared elements
+     * @param source
+     *            the original tree, may be null
+     * @param target
+     *            the new tree, may be null
+     * @return the differences between the trees
+     * @throws IllegalArgumentException
+     *             if a tree contains a cycle that is not shared by both trees and an added or removed value cannot be
+     *             rendered
+     */
+    public static <T extends Constructible> OASDiff between(T source, T target) {
+        return between(source, target, new OASEquivalence());
+    }
+
+    /**
+     * Computes the differences between two model trees, using the given {@link OASEquivalence} to skip equivalent
+     * subtrees. Passing the same instance to successive calls reuses the structural hash codes computed by earlier
+     * calls, e.g. when a document is compared with each of its successive versions. The caller is responsible for
+     * {@linkplain OASEquivalence#invalidate(Object) invalidating} the model objects it modifies between calls.
+     *
+     * @param <T>
+     *            the type of the compared elements
+     * @param source
+     *            the original tree, may be null
+     * @param target
+     *            the new tree, may be null
+     * @param equivalence
+     *            the structural equality to use
+     * @return the differences between the trees
+     * @throws IllegalArgumentException
+     *             if a tree contains a cycle that is not shared by both trees and an added or removed value cannot be
+     *             rendered
+     */
+    public static <T extends Constructible> OASDiff between(T source, T target, OASEquivalence equivalence) {
+        Differ differ = new Differ(equivalence);
+        differ.diff("", source, target);
+        return new OASDiff(differ.changes);
+    }
+
+    /**
+     * Returns the differences, in an order which is suitable for applying them as a JSON Patch.
+     *
+     * @return an unmodifiable list of changes
+     */
+    public List<Change> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Returns whether the compared trees are structurally equal.
+     *
+     * @return true if there are no differences
+     */
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Returns the names of the path items which were added, removed or changed when comparing two {@code OpenAPI}
+     * documents.
+     *
+     * @return an ordered set of path names, e.g. {@code /pets/{id}}
+     */
+    public Set<String> getChangedPaths() {
+        Set<String> paths = new LinkedHashSet<>();
+        for (Change change : changes) {
+            String path = change.getPath();
+            if (path.equals("/paths")) {
+                addAll(paths, change.getSource());
+                addAll(paths, change.getTarget());
+            } else if (path.startsWith(PATHS_PREFIX)) {
+                int end = path.indexOf('/', PATHS_PREFIX.length());
+                paths.add(unescape(path.substring(PATHS_PREFIX.length(), end < 0 ? path.length() : end)));
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * Renders the differences as a JSON Patch document. Each operation is a map with the {@code op}, {@code path} and
+     * (except for removals) {@code value} members. Values are converted to maps, lists, strings, numbers and booleans,
+     * so the result can be written by any JSON library.
+     *
+     * @return the list of JSON Patch operations
+     */
+    public List<Map<String, Object>> toJsonPatch() {
+        List<Map<String, Object>> patch = new ArrayList<>(changes.size());
+        for (Change change : changes) {
+            Map<String, Object> operation = new LinkedHashMap<>();
+            operation.put("op", change.getType().getOperation());
+            operation.put("path", change.getPath());
+            if (change.getType() != ChangeType.REMOVED) {
+                operation.put("value", ModelProperties.toJson(change.getTarget()));
+            }
+            patch.add(operation);
+        }
+        return patch;
+    }
+
+    @Override
+    public String toString() {
+        return changes.toString();
+    }
+
+    private static void addAll(Set<String> paths, Object value) {
+        if (value != null && ModelProperties.isModel(value)) {
+            paths.addAll(ModelProperties.of(value).keySet());
+        }
+    }
+
+    static String escape(String token) {
+        return token.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static String unescape(String token) {
+        return token.replace("~1", "/").replace("~0", "~");
+    }
+
+    /**
+     * Walks two trees in parallel and records the differences.
+     */
+    private static final class Differ {
+        private final List<Change> changes = new ArrayList<>();
+        private final Set<OASEquivalence.Pair> inProgress = new HashSet<>();
+        private final OASEquivalence equivalence;
+
+        Differ(OASEquivalence equivalence) {
+            this.equivalence = equivalence;
+        }
+
+        void diff(String path, Object a, Object b) {
+            if (a == b) {
+                // Identical (shared) subtree
+                return;
+            }
+            boolean aEmpty = ModelProperties.isEmpty(a);
+            boolean bEmpty = ModelProperties.isEmpty(b);
+            if (aEmpty && bEmpty) {
+                return;
+            }
+            if (aEmpty) {
+                changes.add(new Change(ChangeType.ADDED, path, null, b));
+                return;
+            }
+            if (bEmpty) {
+                changes.add(new Change(ChangeType.REMOVED, path, a, null));
+                return;
+            }
+            OASEquivalence.Pair pair = new OASEquivalence.Pair(a, b);
+            if (!inProgress.add(pair)) {
+                // Cycle in both trees
+                return;
+            }
+            try {
+                if (ModelProperties.isModel(a) && ModelProperties.isModel(b)
+                        && ModelProperties.modelType(a) == ModelProperties.modelType(b)) {
+                    if (!equivalence.equivalent(a, b)) {
+                        diffMaps(path, ModelProperties.of(a), ModelProperties.of(b));
+                    }
+                } else if (a instanceof Map && b instanceof Map) {
+                    diffMaps(path, (Map<?, ?>) a, (Map<?, ?>) b);
+                } else if (a instanceof List && b instanceof List) {
+                    diffLists(path, (List<?>) a, (List<?>) b);
+                } else if (!ModelProperties.leafEquals(a, b)) {
+                    changes.add(new Change(ChangeType.CHANGED, path, a, b));
+                }
+            } finally {
+                inProgress.remove(pair);
+            }
+        }
+
+        private void diffMaps(String path, Map<?, ?> a, Map<?, ?> b) {
+            for (Map.Entry<?, ?> entry : a.entrySet()) {
+                Object key = entry.getKey();
+                String child = path + "/" + escape(String.valueOf(key));
+                if (b.containsKey(key)) {
+                    diff(child, entry.getValue(), b.get(key));
+                } else if (entry.getValue() != null) {
+                    changes.add(new Change(ChangeType.REMOVED, child, entry.getValue(), null));
+                }
+            }
+            for (Map.Entry<?, ?> entry : b.entrySet()) {
+                if (!a.containsKey(entry.getKey()) && entry.getValue() != null) {
+                    String child = path + "/" + escape(String.valueOf(entry.getKey()));
+                    changes.add(new Change(ChangeType.ADDED, child, null, entry.getValue()));
+                }
+            }
+        }
+
+        private void diffLists(String path, List<?> a, List<?> b) {
+            // Skip the common prefix and suffix, so that an insertion or removal in the middle of a list is reported
+            // as such rather than as a change of every following element.
+            int prefix = 0;
+            int max = Math.min(a.size(), b.size());
+            while (prefix < max && isEqual(a.get(prefix), b.get(prefix))) {
+                prefix++;
+            }
+            int suffix = 0;
+            while (suffix < max - prefix
+                    && isEqual(a.get(a.size() - 1 - suffix), b.get(b.size() - 1 - suffix))) {
+                suffix++;
+            }
+            int aEnd = a.size() - suffix;
+            int bEnd = b.size() - suffix;
+            int common = Math.min(aEnd, bEnd);
+            for (int i = prefix; i < common; i++) {
+                diff(path + "/" + i, a.get(i), b.get(i));
+            }
+            for (int i = aEnd - 1; i >= common; i--) {
+                changes.add(new Change(ChangeType.REMOVED, path + "/" + i, a.get(i), null));
+            }
+            for (int i = common; i < bEnd; i++) {
+                changes.add(new Change(ChangeType.ADDED, path + "/" + i, null, b.get(i)));
+            }
+        }
+
+        private boolean isEqual(Object a, Object b) {
+            return equivalence.equivalent(a, b);
+        }
+    }
+}
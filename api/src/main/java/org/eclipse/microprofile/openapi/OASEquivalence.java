@@ -0,0 +1,290 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Structural equality and hash codes for OpenAPI model trees.
+ * <p>
+ * The model objects created by {@link OASFactory} are not required to implement {@code equals} and {@code hashCode}
+ * structurally. Two model objects are <em>equivalent</em> if they have the same model type and their properties, as
+ * they appear in an OpenAPI document, are equivalent. Null values and properties whose value is an empty collection are
+ * considered absent, whereas the entries of a map, such as the empty scopes of a security requirement, and model
+ * objects are present even if empty. Numbers are compared by value.
+ * <p>
+ * The structural hash code of each model object is cached the first time it is computed, so repeated hash and equality
+ * checks over the same trees are cheap. The cache records which model objects contained each other when their hash
+ * codes were computed; after a model object is modified, {@link #invalidate(Object)} discards its cached hash code
+ * together with the hash codes of all the objects containing it.
+ * <p>
+ * Instances of this class are not thread safe, and are intended to be used for a single processing pass over one or
+ * more model trees, e.g. to deduplicate or diff documents.
+ *
+ * @since 3.2
+ */
+public final class OASEquivalence {
+
+    private static final int CYCLE_HASH = 0x4f4153;
+
+    private final Map<Object, Integer> hashes = new IdentityHashMap<>();
+    private final Map<Object, Set<Object>> parents = new IdentityHashMap<>();
+    private final Set<Object> hashing = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<Pair> equal = new HashSet<>();
+    private final Set<Pair> comparing = new HashSet<>();
+    private boolean cycle;
+
+    /**
+     * Returns the structural hash code of a model object, collection or value. Equivalent values have the same hash
+     * code.
+     *
+     * @param value
+     *            a model object, collection or value, may be null
+     * @return the structural hash code
+     */
+    public int hash(Object value) {
+        cycle = false;
+        return hash(value, null);
+    }
+
+    /**
+     * Returns whether two model objects, collections or values are structurally equivalent.
+     *
+     * @param a
+     *            first value, may be null
+     * @param b
+     *            second value, may be null
+     * @return true if the values are equivalent
+     */
+    public boolean equivalent(Object a, Object b) {
+        if (a == b) {
+            return true;
+        }
+        int hashA = hash(a);
+        boolean exactA = !cycle;
+        int hashB = hash(b);
+        boolean exactB = !cycle;
+        if (exactA && exactB && hashA != hashB) {
+            return false;
+        }
+        return deepEquals(a, b);
+    }
+
+    /**
+     * Discards the cached hash code of a model object that has been modified, and of all the model objects which
+     * contained it when their hash codes were computed.
+     *
+     * @param model
+     *            a modified model object
+     */
+    public void invalidate(Object model) {
+        Deque<Object> pending = new ArrayDeque<>();
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        pending.add(model);
+        while (!pending.isEmpty()) {
+            Object node = pending.remove();
+            if (visited.add(node)) {
+                hashes.remove(node);
+                Set<Object> containers = parents.get(node);
+                if (containers != null) {
+                    pending.addAll(containers);
+                }
+            }
+        }
+        equal.clear();
+    }
+
+    /**
+     * Discards all the cached hash codes and comparison results.
+     */
+    public void clear() {
+        hashes.clear();
+        parents.clear();
+        equal.clear();
+    }
+
+    private int hash(Object value, Object parent) {
+        if (ModelProperties.isEmpty(value)) {
+            return 0;
+        }
+        if (ModelProperties.isModel(value)) {
+            return hashModel(value, parent);
+        }
+        if (value instanceof Map) {
+            return hashMap((Map<?, ?>) value, parent);
+        }
+        if (value instanceof List) {
+            int result = 1;
+            for (Object item : (List<?>) value) {
+                result = 31 * result + hash(item, parent);
+            }
+            return result;
+        }
+        if (value instanceof BigDecimal) {
+            BigDecimal number = (BigDecimal) value;
+            return number.signum() == 0 ? 0 : number.stripTrailingZeros().hashCode();
+        }
+        return value.hashCode();
+    }
+
+    private int hashModel(Object model, Object parent) {
+        if (parent != null) {
+            parents.computeIfAbsent(model, k -> Collections.newSetFromMap(new IdentityHashMap<>())).add(parent);
+        }
+        Integer cached = hashes.get(model);
+        if (cached != null) {
+            return cached;
+        }
+        if (!hashing.add(model)) {
+            // The hash code of a node in a cycle depends on where the cycle is entered, so it is not cached
+            cycle = true;
+            return CYCLE_HASH;
+        }
+        boolean outerCycle = cycle;
+        cycle = false;
+        try {
+            int result = 31 * ModelProperties.modelType(model).getName().hashCode()
+                    + hashMap(ModelProperties.of(model), model);
+            if (!cycle) {
+                hashes.put(model, result);
+            }
+            return result;
+        } finally {
+            hashing.remove(model);
+            cycle |= outerCycle;
+        }
+    }
+
+    private int hashMap(Map<?, ?> map, Object parent) {
+        int result = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (entry.getValue() != null) {
+                result += String.valueOf(entry.getKey()).hashCode() ^ hash(entry.getValue(), parent);
+            }
+        }
+        return result;
+    }
+
+    private boolean deepEquals(Object a, Object b) {
+        if (a == b) {
+            return true;
+        }
+        boolean aEmpty = ModelProperties.isEmpty(a);
+        boolean bEmpty = ModelProperties.isEmpty(b);
+        if (aEmpty || bEmpty) {
+            return aEmpty && bEmpty;
+        }
+        boolean aModel = ModelProperties.isModel(a);
+        boolean bModel = ModelProperties.isModel(b);
+        if (aModel || bModel) {
+            if (!aModel || !bModel || ModelProperties.modelType(a) != ModelProperties.modelType(b)) {
+                return false;
+            }
+            Integer hashA = hashes.get(a);
+            Integer hashB = hashes.get(b);
+            if (hashA != null && hashB != null && !hashA.equals(hashB)) {
+                return false;
+            }
+            Pair pair = new Pair(a, b);
+            if (equal.contains(pair)) {
+                return true;
+            }
+            if (!comparing.add(pair)) {
+                // Both trees contain the same cycle
+                return true;
+            }
+            try {
+                boolean result = mapEquals(ModelProperties.of(a), ModelProperties.of(b));
+                if (result) {
+                    equal.add(pair);
+                }
+                return result;
+            } finally {
+                comparing.remove(pair);
+            }
+        }
+        if (a instanceof Map && b instanceof Map) {
+            return mapEquals((Map<?, ?>) a, (Map<?, ?>) b);
+        }
+        if (a instanceof List && b instanceof List) {
+            List<?> listA = (List<?>) a;
+            List<?> listB = (List<?>) b;
+            if (listA.size() != listB.size()) {
+                return false;
+            }
+            for (int i = 0; i < listA.size(); i++) {
+                if (!deepEquals(listA.get(i), listB.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return ModelProperties.leafEquals(a, b);
+    }
+
+    private boolean mapEquals(Map<?, ?> a, Map<?, ?> b) {
+        int count = 0;
+        for (Map.Entry<?, ?> entry : a.entrySet()) {
+            if (entry.getValue() != null) {
+                count++;
+                if (!deepEquals(entry.getValue(), b.get(entry.getKey()))) {
+                    return false;
+                }
+            }
+        }
+        for (Object value : b.values()) {
+            if (value != null) {
+                count--;
+            }
+        }
+        return count == 0;
+    }
+
+    /**
+     * A pair of objects compared by identity.
+     */
+    static final class Pair {
+        private final Object a;
+        private final Object b;
+
+        Pair(Object a, Object b) {
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Pair)) {
+                return false;
+            }
+            Pair other = (Pair) obj;
+            return a == other.a && b == other.b;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(a) + System.identityHashCode(b);
+        }
+    }
+}
@@ -16,6 +16,8 @@
 
 package org.eclipse.microprofile.openapi;
 
+import java.util.Objects;
+
 import org.eclipse.microprofile.openapi.models.Components;
 import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
@@ -366,4 +368,343 @@ public final class OASFactory {
         return createObject(Tag.class);
     }
 
-}
\ No newline at end of file
+    /**
+     * Returns a builder which creates model elements with the current {@link OASFactoryResolver}. The resolver is
+     * looked up once, when this method is called, rather than on each call to a create method.
+     * <p>
+     * This is intended for code which creates many model elements at once, for example an
+     * {@link org.eclipse.microprofile.openapi.OASModelReader} which generates a large document. Such code may also use
+     * the batch methods of the model, e.g.
+     * {@link org.eclipse.microprofile.openapi.models.Paths#addPathItems(java.util.Map)} and
+     * {@link org.eclipse.microprofile.openapi.models.media.Schema#addProperties(java.util.Map)}, which allow
+     * implementations to size their collections once for all of the added entries.
+     *
+     * @return a builder which uses the current OASFactoryResolver
+     * @throws IllegalStateException
+     *             if no OASFactoryResolver implementation is found
+     * @since 3.2
+     */
+    public static Builder builder() {
+        return new Builder(OASFactoryResolver.instance());
+    }
+
+    /**
+     * Returns a builder which creates model elements with the given {@link OASFactoryResolver}.
+     *
+     * @param resolver
+     *            the resolver used to create model elements
+     * @return a builder which uses the given resolver
+     * @throws NullPointerException
+     *             if the specified resolver is null
+     * @since 3.2
+     */
+    public static Builder builder(OASFactoryResolver resolver) {
+        return new Builder(Objects.requireNonNull(resolver, "resolver"));
+    }
+
+    /**
+     * Creates new OpenAPI model elements with an {@link OASFactoryResolver} which is captured when the builder is
+     * created. A builder has the same create methods as {@link OASFactory} and may be shared between threads.
+     *
+     * @see OASFactory#builder()
+     * @since 3.2
+     */
+    public static final class Builder {
+
+        private final OASFactoryResolver resolver;
+
+        private Builder(OASFactoryResolver resolver) {
+            this.resolver = resolver;
+        }
+
+        /**
+         * Creates a new instance of a constructible element from the OpenAPI model tree.
+         *
+         * @param <T>
+         *            describes the type parameter
+         * @param clazz
+         *            represents a model which extends the {@link org.eclipse.microprofile.openapi.models.Constructible}
+         *            interface
+         * @return a new instance of the requested model class
+         * @throws NullPointerException
+         *             if the specified class is null
+         * @throws IllegalArgumentException
+         *             if an instance could not be created, most likely, due to an illegal or inappropriate class
+         * @see OASFactory#createObject(Class)
+         */
+        public <T extends Constructible> T createObject(Class<T> clazz) {
+            return resolver.createObject(clazz);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.Components} instance.
+         *
+         * @return a new Components instance
+         */
+        public Components createComponents() {
+            return createObject(Components.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.ExternalDocumentation} instance.
+         *
+         * @return a new ExternalDocumentation instance
+         */
+        public ExternalDocumentation createExternalDocumentation() {
+            return createObject(ExternalDocumentation.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.OpenAPI} instance.
+         *
+         * @return a new OpenAPI instance
+         */
+        public OpenAPI createOpenAPI() {
+            return createObject(OpenAPI.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.Operation} instance.
+         *
+         * @return a new Operation instance
+         */
+        public Operation createOperation() {
+            return createObject(Operation.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.PathItem} instance.
+         *
+         * @return a new PathItem instance
+         */
+        public PathItem createPathItem() {
+            return createObject(PathItem.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.Paths} instance.
+         *
+         * @return a new Paths instance
+         */
+        public Paths createPaths() {
+            return createObject(Paths.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.callbacks.Callback} instance.
+         *
+         * @return a new Callback instance
+         */
+        public Callback createCallback() {
+            return createObject(Callback.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.examples.Example} instance.
+         *
+         * @return a new Example instance
+         */
+        public Example createExample() {
+            return createObject(Example.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.headers.Header} instance.
+         *
+         * @return a new Header instance
+         */
+        public Header createHeader() {
+            return createObject(Header.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.info.Contact} instance.
+         *
+         * @return a new Contact instance
+         */
+        public Contact createContact() {
+            return createObject(Contact.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.info.Info} instance.
+         *
+         * @return a new Info instance
+         */
+        public Info createInfo() {
+            return createObject(Info.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.info.License} instance.
+         *
+         * @return a new License instance
+         */
+        public License createLicense() {
+            return createObject(License.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.links.Link} instance.
+         *
+         * @return a new Link instance
+         */
+        public Link createLink() {
+            return createObject(Link.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.media.Content} instance.
+         *
+         * @return a new Content instance
+         */
+        public Content createContent() {
+            return createObject(Content.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.media.Discriminator} instance.
+         *
+         * @return a new Discriminator instance
+         */
+        public Discriminator createDiscriminator() {
+            return createObject(Discriminator.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.media.Encoding} instance.
+         *
+         * @return a new Encoding instance
+         */
+        public Encoding createEncoding() {
+            return createObject(Encoding.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.media.MediaType} instance.
+         *
+         * @return a new MediaType instance
+         */
+        public MediaType createMediaType() {
+            return createObject(MediaType.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.media.Schema} instance.
+         *
+         * @return a new Schema instance
+         */
+        public Schema createSchema() {
+            return createObject(Schema.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.media.XML} instance.
+         *
+         * @return a new XML instance
+         */
+        public XML createXML() {
+            return createObject(XML.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.parameters.Parameter} instance.
+         *
+         * @return a new Parameter instance
+         */
+        public Parameter createParameter() {
+            return createObject(Parameter.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.parameters.RequestBody} instance.
+         *
+         * @return a new RequestBody instance
+         */
+        public RequestBody createRequestBody() {
+            return createObject(RequestBody.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.responses.APIResponse} instance.
+         *
+         * @return a new APIResponse instance
+         */
+        public APIResponse createAPIResponse() {
+            return createObject(APIResponse.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.responses.APIResponses} instance.
+         *
+         * @return a new APIResponses instance
+         */
+        public APIResponses createAPIResponses() {
+            return createObject(APIResponses.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.security.OAuthFlow} instance.
+         *
+         * @return a new OAuthFlow instance
+         */
+        public OAuthFlow createOAuthFlow() {
+            return createObject(OAuthFlow.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.security.OAuthFlows} instance.
+         *
+         * @return a new OAuthFlows instance
+         */
+        public OAuthFlows createOAuthFlows() {
+            return createObject(OAuthFlows.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.security.SecurityRequirement} instance.
+         *
+         * @return a new SecurityRequirement instance
+         */
+        public SecurityRequirement createSecurityRequirement() {
+            return createObject(SecurityRequirement.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.security.SecurityScheme} instance.
+         *
+         * @return a new SecurityScheme instance
+         */
+        public SecurityScheme createSecurityScheme() {
+            return createObject(SecurityScheme.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.servers.Server} instance.
+         *
+         * @return a new Server instance
+         */
+        public Server createServer() {
+            return createObject(Server.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.servers.ServerVariable} instance.
+         *
+         * @return a new ServerVariable instance
+         */
+        public ServerVariable createServerVariable() {
+            return createObject(ServerVariable.class);
+        }
+
+        /**
+         * Creates a new {@link org.eclipse.microprofile.openapi.models.tags.Tag} instance.
+         *
+         * @return a new Tag instance
+         */
+        public Tag createTag() {
+            return createObject(Tag.class);
+        }
+    }
+
+}
@@ -39,6 +39,9 @@ import org.eclipse.microprofile.openapi.models.tags.Tag;
  * configuration sources specified in <a href="https://github.com/eclipse/microprofile-config">MicroProfile Config</a>.
  * The value is the fully qualified name of the filter implementation, which needs to be visible to the application's
  * classloader.
+ * <p>
+ * If the vendor supports reloading of the OpenAPI document (see {@link OASConfig#RELOAD_ENABLE}), the filter may be
+ * called again after the document has been reloaded, possibly only for the elements that have changed.
  *
  */
 public interface OASFilter {
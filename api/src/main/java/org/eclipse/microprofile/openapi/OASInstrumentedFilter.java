@@ -0,0 +1,504 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.openapi.models.Constructible;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.headers.Header;
+import org.eclipse.microprofile.openapi.models.links.Link;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+
+/**
+ * An {@link OASFilter} which decorates another filter and records, for each of its methods, the number of calls, the
+ * number of elements removed (i.e. the calls which returned null) and a histogram of the call latencies.
+ * <p>
+ * This makes it possible to find out which callbacks of a slow filter are expensive. For example:
+ *
+ * <pre>
+ * <code>
+ * OASInstrumentedFilter instrumented = new OASInstrumentedFilter(new MyFilter());
+ * // ... filter the model with the instrumented filter ...
+ * Statistics schemas = instrumented.getStatistics(FilterMethod.SCHEMA);
+ * long p99 = schemas.getPercentileNanos(0.99);
+ * </code>
+ * </pre>
+ *
+ * The statistics can be exported with {@link #toReport()}, as a structure which can be written by any JSON library, and
+ * the call counts with {@link #getInvocations()}, in the form expected by
+ * {@link OASProcessingListener#filterCompleted(Map)}.
+ * <p>
+ * The latencies are recorded in {@value #BUCKETS} buckets with exponentially growing bounds: the first bucket holds the
+ * calls which took at most 1 microsecond, each following bucket the calls which took at most twice as long as the bound
+ * of the previous bucket, and the last bucket all the longer calls. The latency of a call includes the time spent by
+ * the decorated filter only.
+ * <p>
+ * Instances of this class are thread safe if the decorated filter is.
+ *
+ * @since 3.2
+ */
+public final class OASInstrumentedFilter implements OASFilter {
+
+    /**
+     * The number of buckets of the latency histograms.
+     */
+    public static final int BUCKETS = 22;
+
+    private static final long FIRST_BOUND_NANOS = 1000;
+
+    /**
+     * The methods of {@link OASFilter}.
+     */
+    public enum FilterMethod {
+        /** {@link OASFilter#filterPathItem(PathItem)} */
+        PATH_ITEM("filterPathItem", PathItem.class),
+        /** {@link OASFilter#filterOperation(Operation)} */
+        OPERATION("filterOperation", Operation.class),
+        /** {@link OASFilter#filterParameter(Parameter)} */
+        PARAMETER("filterParameter", Parameter.class),
+        /** {@link OASFilter#filterHeader(Header)} */
+        HEADER("filterHeader", Header.class),
+        /** {@link OASFilter#filterRequestBody(RequestBody)} */
+        REQUEST_BODY("filterRequestBody", RequestBody.class),
+        /** {@link OASFilter#filterAPIResponse(APIResponse)} */
+        API_RESPONSE("filterAPIResponse", APIResponse.class),
+        /** {@link OASFilter#filterSchema(Schema)} */
+        SCHEMA("filterSchema", Schema.class),
+        /** {@link OASFilter#filterSecurityScheme(SecurityScheme)} */
+        SECURITY_SCHEME("filterSecurityScheme", SecurityScheme.class),
+        /** {@link OASFilter#filterServer(Server)} */
+        SERVER("filterServer", Server.class),
+        /** {@link OASFilter#filterTag(Tag)} */
+        TAG("filterTag", Tag.class),
+        /** {@link OASFilter#filterLink(Link)} */
+        LINK("filterLink", Link.class),
+        /** {@link OASFilter#filterCallback(Callback)} */
+        CALLBACK("filterCallback", Callback.class),
+        /** {@link OASFilter#filterOpenAPI(OpenAPI)} */
+        OPEN_API("filterOpenAPI", OpenAPI.class);
+
+        private final String methodName;
+        private final Class<? extends Constructible> elementType;
+
+        FilterMethod(String methodName, Class<? extends Constructible> elementType) {
+            this.methodName = methodName;
+            this.elementType = elementType;
+        }
+
+        /**
+         * Returns the name of the method of {@link OASFilter}.
+         *
+         * @return the method name, e.g. <code>filterPathItem</code>
+         */
+        public String getMethodName() {
+            return methodName;
+        }
+
+        /**
+         * Returns the model interface of the elements passed to the method.
+         *
+         * @return the element type, e.g. {@link PathItem}
+         */
+        public Class<? extends Constructible> getElementType() {
+            return elementType;
+        }
+    }
+
+    private final OASFilter delegate;
+    private final Map<FilterMethod, Recorder> recorders = new EnumMap<>(FilterMethod.class);
+
+    /**
+     * Creates an instrumented filter.
+     *
+     * @param delegate
+     *            the filter to decorate
+     * @throws NullPointerException
+     *             if the filter is null
+     */
+    public OASInstrumentedFilter(OASFilter delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        for (FilterMethod method : FilterMethod.values()) {
+            recorders.put(method, new Recorder());
+        }
+    }
+
+    /**
+     * Returns the decorated filter.
+     *
+     * @return the filter
+     */
+    public OASFilter getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Returns the statistics recorded for a method so far.
+     *
+     * @param method
+     *            the method
+     * @return a snapshot of the statistics
+     */
+    public Statistics getStatistics(FilterMethod method) {
+        return recorders.get(method).snapshot(method);
+    }
+
+    /**
+     * Returns the statistics recorded for all the methods so far.
+     *
+     * @return a snapshot of the statistics, in {@link FilterMethod} order
+     */
+    public Map<FilterMethod, Statistics> getStatistics() {
+        Map<FilterMethod, Statistics> statistics = new EnumMap<>(FilterMethod.class);
+        for (FilterMethod method : FilterMethod.values()) {
+            statistics.put(method, getStatistics(method));
+        }
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /**
+     * Returns the number of calls made so far, by element type. Methods which were not called are not included.
+     *
+     * @return the number of calls, keyed by model interface
+     * @see OASProcessingListener#filterCompleted(Map)
+     */
+    public Map<Class<? extends Constructible>, Long> getInvocations() {
+        Map<Class<? extends Constructible>, Long> invocations = new LinkedHashMap<>();
+        for (FilterMethod method : FilterMethod.values()) {
+            long count = recorders.get(method).count.sum();
+            if (count > 0) {
+                invocations.put(method.getElementType(), count);
+            }
+        }
+        return Collections.unmodifiableMap(invocations);
+    }
+
+    /**
+     * Renders the statistics of the methods which were called as a report. The report maps each method name to a map
+     * with the {@code count}, {@code removals}, {@code totalNanos}, {@code maxNanos} and {@code histogram} of the
+     * method, where the histogram maps the upper bound of each non empty bucket, in nanoseconds, to its number of
+     * calls. The report only contains maps, strings and numbers, so it can be written by any JSON library.
+     *
+     * @return the report
+     */
+    public Map<String, Object> toReport() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        for (Statistics statistics : getStatistics().values()) {
+            if (statistics.getCount() > 0) {
+                report.put(statistics.getMethod().getMethodName(), statistics.toReport());
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Discards the statistics recorded so far.
+     */
+    public void reset() {
+        for (Recorder recorder : recorders.values()) {
+            recorder.reset();
+        }
+    }
+
+    /**
+     * Returns the upper bound of a bucket of the latency histograms.
+     *
+     * @param bucket
+     *            the index of the bucket, from 0 to {@link #BUCKETS} - 1
+     * @return the upper bound in nanoseconds, or {@link Long#MAX_VALUE} for the last bucket
+     * @throws IndexOutOfBoundsException
+     *             if the index is out of range
+     */
+    public static long getBucketUpperBound(int bucket) {
+        if (bucket < 0 || bucket >= BUCKETS) {
+            throw new IndexOutOfBoundsException("Bucket " + bucket + " of " + BUCKETS);
+        }
+        return bucket == BUCKETS - 1 ? Long.MAX_VALUE : FIRST_BOUND_NANOS << bucket;
+    }
+
+    private static int bucket(long nanos) {
+        if (nanos <= FIRST_BOUND_NANOS) {
+            return 0;
+        }
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros((nanos - 1) / FIRST_BOUND_NANOS));
+    }
+
+    private <T> T record(FilterMethod method, Supplier<T> call) {
+        long start = System.nanoTime();
+        boolean removed = false;
+        try {
+            T result = call.get();
+            removed = result == null && method != FilterMethod.OPEN_API;
+            return result;
+        } finally {
+            // A call which throws an exception is recorded as well, but not as a removal
+            recorders.get(method).record(System.nanoTime() - start, removed);
+        }
+    }
+
+    @Override
+    public PathItem filterPathItem(PathItem pathItem) {
+        return record(FilterMethod.PATH_ITEM, () -> delegate.filterPathItem(pathItem));
+    }
+
+    @Override
+    public Operation filterOperation(Operation operation) {
+        return record(FilterMethod.OPERATION, () -> delegate.filterOperation(operation));
+    }
+
+    @Override
+    public Parameter filterParameter(Parameter parameter) {
+        return record(FilterMethod.PARAMETER, () -> delegate.filterParameter(parameter));
+    }
+
+    @Override
+    public Header filterHeader(Header header) {
+        return record(FilterMethod.HEADER, () -> delegate.filterHeader(header));
+    }
+
+    @Override
+    public RequestBody filterRequestBody(RequestBody requestBody) {
+        return record(FilterMethod.REQUEST_BODY, () -> delegate.filterRequestBody(requestBody));
+    }
+
+    @Override
+    public APIResponse filterAPIResponse(APIResponse apiResponse) {
+        return record(FilterMethod.API_RESPONSE, () -> delegate.filterAPIResponse(apiResponse));
+    }
+
+    @Override
+    public Schema filterSchema(Schema schema) {
+        return record(FilterMethod.SCHEMA, () -> delegate.filterSchema(schema));
+    }
+
+    @Override
+    public SecurityScheme filterSecurityScheme(SecurityScheme securityScheme) {
+        return record(FilterMethod.SECURITY_SCHEME, () -> delegate.filterSecurityScheme(securityScheme));
+    }
+
+    @Override
+    public Server filterServer(Server server) {
+        return record(FilterMethod.SERVER, () -> delegate.filterServer(server));
+    }
+
+    @Override
+    public Tag filterTag(Tag tag) {
+        return record(FilterMethod.TAG, () -> delegate.filterTag(tag));
+    }
+
+    @Override
+    public Link filterLink(Link link) {
+        return record(FilterMethod.LINK, () -> delegate.filterLink(link));
+    }
+
+    @Override
+    public Callback filterCallback(Callback callback) {
+        return record(FilterMethod.CALLBACK, () -> delegate.filterCallback(callback));
+    }
+
+    @Override
+    public void filterOpenAPI(OpenAPI openAPI) {
+        record(FilterMethod.OPEN_API, () -> {
+            delegate.filterOpenAPI(openAPI);
+            return openAPI;
+        });
+    }
+
+    /**
+     * The statistics of a method of the decorated filter.
+     */
+    public static final class Statistics {
+        private final FilterMethod method;
+        private final long count;
+        private final long removals;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long[] histogram;
+
+        Statistics(FilterMethod method, long count, long removals, long totalNanos, long maxNanos, long[] histogram) {
+            this.method = method;
+            this.count = count;
+            this.removals = removals;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.histogram = histogram;
+        }
+
+        /**
+         * Returns the method.
+         *
+         * @return the method
+         */
+        public FilterMethod getMethod() {
+            return method;
+        }
+
+        /**
+         * Returns the number of calls.
+         *
+         * @return the number of calls
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the number of calls which returned null, i.e. which removed an element. This is always 0 for
+         * {@link FilterMethod#OPEN_API}.
+         *
+         * @return the number of removals
+         */
+        public long getRemovals() {
+            return removals;
+        }
+
+        /**
+         * Returns the total time spent in the method.
+         *
+         * @return the total time in nanoseconds
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * Returns the longest call.
+         *
+         * @return the duration of the longest call in nanoseconds, or 0 if the method was not called
+         */
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Returns the mean duration of a call.
+         *
+         * @return the mean duration in nanoseconds, or 0 if the method was not called
+         */
+        public long getMeanNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+
+        /**
+         * Returns the latency histogram.
+         *
+         * @return the number of calls in each bucket, see {@link OASInstrumentedFilter#getBucketUpperBound(int)}
+         */
+        public long[] getHistogram() {
+            return histogram.clone();
+        }
+
+        /**
+         * Returns an estimate of a percentile of the call durations, from the latency histogram.
+         *
+         * @param percentile
+         *            the percentile, between 0 and 1, e.g. 0.99
+         * @return the upper bound of the bucket holding the percentile, limited to the longest call, in nanoseconds, or
+         *         0 if the method was not called
+         * @throws IllegalArgumentException
+         *             if the percentile is not between 0 and 1
+         */
+        public long getPercentileNanos(double percentile) {
+            if (!(percentile >= 0 && percentile <= 1)) {
+                throw new IllegalArgumentException("The percentile must be between 0 and 1: " + percentile);
+            }
+            long rank = (long) Math.ceil(percentile * count);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += histogram[i];
+                if (seen > 0 && seen >= rank) {
+                    return Math.min(getBucketUpperBound(i), maxNanos);
+                }
+            }
+            return 0;
+        }
+
+        Map<String, Object> toReport() {
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("count", count);
+            report.put("removals", removals);
+            report.put("totalNanos", totalNanos);
+            report.put("maxNanos", maxNanos);
+            Map<String, Object> buckets = new LinkedHashMap<>();
+            for (int i = 0; i < BUCKETS; i++) {
+                if (histogram[i] > 0) {
+                    buckets.put(i == BUCKETS - 1 ? "+Inf" : String.valueOf(getBucketUpperBound(i)), histogram[i]);
+                }
+            }
+            report.put("histogram", buckets);
+            return report;
+        }
+
+        @Override
+        public String toString() {
+            return method.getMethodName() + ": count=" + count + ", removals=" + removals + ", totalNanos="
+                    + totalNanos + ", maxNanos=" + maxNanos;
+        }
+    }
+
+    private static final class Recorder {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder removals = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+        void record(long nanos, boolean removed) {
+            count.increment();
+            if (removed) {
+                removals.increment();
+            }
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            histogram.incrementAndGet(bucket(nanos));
+        }
+
+        Statistics snapshot(FilterMethod method) {
+            long[] buckets = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = histogram.get(i);
+            }
+            return new Statistics(method, count.sum(), removals.sum(), totalNanos.sum(), maxNanos.get(), buckets);
+        }
+
+        void reset() {
+            count.reset();
+            removals.reset();
+            totalNanos.reset();
+            maxNanos.reset();
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram.set(i, 0);
+            }
+        }
+    }
+}
@@ -15,6 +15,9 @@
  */
 package org.eclipse.microprofile.openapi;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 
 /**
@@ -26,7 +29,12 @@ import org.eclipse.microprofile.openapi.models.OpenAPI;
  * The registration of this model reader is controlled by setting the key <b>mp.openapi.model.reader</b> using one of
  * the configuration sources specified in <a href="https://github.com/eclipse/microprofile-config">MicroProfile
  * Config</a>. The value is the fully qualified name of the model reader implementation, which needs to be visible to
- * the application's classloader.
+ * the application's classloader. Several model readers can be registered as a comma separated list, in which case they
+ * are run concurrently and their models are merged in the listed order.
+ * <p>
+ * The vendor calls {@link #buildModelAsync()}. A model reader which assembles its model from slow sources, such as
+ * remote descriptors or generated files, can override this method, so that the vendor reads the static file and
+ * processes the annotations while the model is being built.
  */
 public interface OASModelReader {
 
@@ -38,4 +46,23 @@ public interface OASModelReader {
      * @return the OpenAPI model to be used by the vendor
      */
     OpenAPI buildModel();
+
+    /**
+     * This method is called by the vendor's OpenAPI processing framework to start building the model. The vendor may
+     * read the static file and process the annotations before the returned stage completes, but the resulting model is
+     * merged with them in the order defined by the specification, as if {@link #buildModel()} had been called. If the
+     * stage completes exceptionally, the processing of the document fails as if {@link #buildModel()} had thrown the
+     * exception.
+     * <p>
+     * The vendor invokes this method from a task submitted to an executor, so it may be called on a thread other than
+     * the one processing the document. The default implementation calls {@link #buildModel()} on the invoking thread
+     * and returns a completed stage. A model reader which overrides this method can implement {@link #buildModel()} by
+     * waiting for the stage to complete, e.g. <code>buildModelAsync().toCompletableFuture().join()</code>.
+     *
+     * @return a stage which completes with the OpenAPI model to be used by the vendor
+     * @since 3.2
+     */
+    default CompletionStage<OpenAPI> buildModelAsync() {
+        return CompletableFuture.completedFuture(buildModel());
+    }
 }
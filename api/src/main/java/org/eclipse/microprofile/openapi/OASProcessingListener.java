@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi;
+
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.models.Constructible;
+
+/**
+ * This interface allows application developers and tools to observe how the OpenAPI document is built, for example to
+ * find out which processing step dominates the startup time of an application or to publish the measurements as
+ * metrics.
+ * <p>
+ * The vendor calls the listener for each of the steps defined by the processing rules of the specification, and never
+ * concurrently. Each step is reported by a call to {@link #stepStarted(Step)} followed by a call to
+ * {@link #stepCompleted(Step, long, long)}, even if the step has nothing to do, for example if no
+ * {@link OASModelReader} is registered or annotation scanning is disabled. The steps are started in {@link Step} order.
+ * They may overlap, since the static file and the annotations may be processed while the model of the
+ * {@link OASModelReader} is built (see {@link OASModelReader#buildModelAsync()}), but {@link Step#FILTER} only starts
+ * once the other steps are complete. The filter invocations are reported once the {@link Step#FILTER} step is complete,
+ * and the size of the document each time it is rendered for the OpenAPI endpoint.
+ * <p>
+ * The registration of this listener is controlled by setting the key <b>mp.openapi.processing.listener</b> using one of
+ * the configuration sources specified in <a href="https://github.com/eclipse/microprofile-config">MicroProfile
+ * Config</a>. The value is the fully qualified name of the listener implementation, which needs to be visible to the
+ * application's classloader. A listener is only an observer: it must not modify the model, and an exception thrown by
+ * the listener does not prevent the document from being built.
+ * <p>
+ * If the vendor supports reloading of the OpenAPI document (see {@link OASConfig#RELOAD_ENABLE}), the listener is
+ * called again for the steps which are performed when the document is reloaded.
+ *
+ * @since 3.2
+ */
+public interface OASProcessingListener {
+
+    /**
+     * The steps of the processing of the OpenAPI document, in the order in which they are performed.
+     */
+    enum Step {
+        /**
+         * Fetching the configuration values from the <code>mp.openapi</code> namespace.
+         */
+        CONFIG,
+        /**
+         * Calling the {@link OASModelReader} instances and merging their models.
+         */
+        MODEL_READER,
+        /**
+         * Reading the static OpenAPI file and merging it into the model.
+         */
+        STATIC_FILE,
+        /**
+         * Processing the annotations of the application.
+         */
+        ANNOTATIONS,
+        /**
+         * Filtering the model via the {@link OASFilter}.
+         */
+        FILTER
+    }
+
+    /**
+     * Called when a processing step starts.
+     *
+     * @param step
+     *            the step
+     */
+    default void stepStarted(Step step) {
+    }
+
+    /**
+     * Called when a processing step is complete.
+     *
+     * @param step
+     *            the step
+     * @param durationNanos
+     *            the wall time of the step, in nanoseconds
+     * @param modelNodes
+     *            the number of model objects created during the step, i.e. instances of {@link Constructible},
+     *            including the ones created by application code such as the {@link OASModelReader} or the
+     *            {@link OASFilter}
+     */
+    default void stepCompleted(Step step, long durationNanos, long modelNodes) {
+    }
+
+    /**
+     * Called once the {@link Step#FILTER} step is complete, with the number of calls made to the methods of the
+     * {@link OASFilter}. This method is not called if no filter is registered.
+     *
+     * @param invocations
+     *            the number of calls by element type, keyed by model interface, e.g.
+     *            {@link org.eclipse.microprofile.openapi.models.PathItem} for
+     *            {@link OASFilter#filterPathItem(org.eclipse.microprofile.openapi.models.PathItem)} and
+     *            {@link org.eclipse.microprofile.openapi.models.OpenAPI} for
+     *            {@link OASFilter#filterOpenAPI(org.eclipse.microprofile.openapi.models.OpenAPI)}. Element types for
+     *            which the filter was not called are not included.
+     */
+    default void filterCompleted(Map<Class<? extends Constructible>, Long> invocations) {
+    }
+
+    /**
+     * Called each time the document is rendered for the OpenAPI endpoint. A vendor which keeps the rendered document
+     * calls this method once for each format it renders.
+     *
+     * @param mediaType
+     *            the media type of the rendered document, such as <code>application/json</code> or
+     *            <code>application/yaml</code>
+     * @param size
+     *            the size of the rendered document, in bytes
+     */
+    default void documentRendered(String mediaType, long size) {
+    }
+}
@@ -0,0 +1,426 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.media.MediaType;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+
+/**
+ * Validates incoming requests against the operations of an OpenAPI document.
+ * <p>
+ * The document is compiled once by {@link #compile(OpenAPI)}: path templates are turned into regular expressions,
+ * parameters and request bodies are merged and their {@code $ref}s resolved, and schemas are compiled with their
+ * patterns and enumerations, so that validating a request does not walk the model. A validator is immutable and can be
+ * shared by concurrent requests; it does not see later changes to the model, so it must be compiled again when the
+ * document is reloaded.
+ * <p>
+ * The validator does not depend on a particular HTTP or JSON library: a JAX-RS {@code ContainerRequestFilter}, for
+ * example, adapts its request context to the {@link Request} interface, with the body parsed to maps and lists. Schema
+ * formats are not validated.
+ * <p>
+ * Parameter values are parsed according to the {@code form} and {@code simple} styles, the defaults of the parameter
+ * locations: an array from comma separated items, or from repeated values if exploded, and an object from comma
+ * separated names and values, or from comma separated {@code name=value} pairs if exploded. The values of the other
+ * parameters are not validated, only their presence: the parameters described by {@code content} rather than by a
+ * schema, whose media type the validator does not parse, and the parameters of the other styles. The properties of an
+ * exploded {@code form} object and of a {@code deepObject} object are sent as parameters of their own, so such a
+ * parameter is not validated at all.
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * <code>OASRequestValidator validator = OASRequestValidator.compile(openAPI);
+ * List&lt;OASViolation&gt; violations = validator.validate(request);
+ * if (!violations.isEmpty()) {
+ *     // reject the request with 400 Bad Request
+ * }
+ * </code>
+ * </pre>
+ *
+ * @since 3.2
+ */
+public final class OASRequestValidator {
+
+    /**
+     * A request to validate.
+     */
+    public interface Request {
+
+        /**
+         * Returns the HTTP method of the request.
+         *
+         * @return the http method
+         */
+        PathItem.HttpMethod getMethod();
+
+        /**
+         * Returns the decoded path of the request, relative to the server URL of the document, e.g. {@code /pets/1}.
+         *
+         * @return the path of the request
+         */
+        String getPath();
+
+        /**
+         * Returns the values of a query, header or cookie parameter. Header names are case insensitive.
+         *
+         * @param in
+         *            the location of the parameter, never {@link Parameter.In#PATH}
+         * @param name
+         *            the name of the parameter
+         * @return the values of the parameter, or null or an empty list if the parameter is absent
+         */
+        List<String> getParameterValues(Parameter.In in, String name);
+
+        /**
+         * Returns the media type of the request body, without parameters, e.g. {@code application/json}.
+         *
+         * @return the media type, or null if the request has no body
+         */
+        String getMediaType();
+
+        /**
+         * Returns the request body, parsed to a tree of maps, lists, strings, numbers, booleans and nulls.
+         *
+         * @return the parsed body, or null if the request has no body
+         */
+        Object getBody();
+
+        /**
+         * Returns whether the request has a body. The default implementation returns whether {@link #getBody()} is not
+         * null; requests whose body is a JSON {@code null} must override this method.
+         *
+         * @return true if the request has a body
+         */
+        default boolean hasBody() {
+            return getBody() != null;
+        }
+    }
+
+    private static final Pattern TEMPLATE = Pattern.compile("\\{([^/}]+)\\}");
+    private static final String PARAMETERS_REF = "#/components/parameters/";
+    private static final String REQUEST_BODIES_REF = "#/components/requestBodies/";
+
+    private final Map<String, Route> literalRoutes;
+    private final List<Route> templateRoutes;
+
+    private OASRequestValidator(Map<String, Route> literalRoutes, List<Route> templateRoutes) {
+        this.literalRoutes = literalRoutes;
+        this.templateRoutes = templateRoutes;
+    }
+
+    /**
+     * Compiles the operations of a document.
+     *
+     * @param openAPI
+     *            the document
+     * @return the validator for the operations of the document
+     * @throws IllegalArgumentException
+     *             if a {@code pattern} of a schema is not a valid regular expression
+     */
+    public static OASRequestValidator compile(OpenAPI openAPI) {
+        Components components = openAPI.getComponents();
+        SchemaValidator.Compiler schemas = new SchemaValidator.Compiler(
+                components == null ? null : components.getSchemas());
+        Map<String, Route> literalRoutes = new HashMap<>();
+        List<Route> templateRoutes = new ArrayList<>();
+        Map<String, PathItem> pathItems = openAPI.getPaths() == null ? null : openAPI.getPaths().getPathItems();
+        if (pathItems != null) {
+            for (Map.Entry<String, PathItem> entry : pathItems.entrySet()) {
+                if (entry.getValue() == null) {
+                    continue;
+                }
+                Route route = new Route(entry.getKey());
+                PathItem pathItem = entry.getValue();
+                pathItem.forEachOperation((method, operation) -> route.operations.put(method,
+                        new CompiledOperation(route, pathItem, operation, components, schemas)));
+                if (route.pattern == null) {
+                    literalRoutes.put(entry.getKey(), route);
+                } else {
+                    templateRoutes.add(route);
+                }
+            }
+        }
+        // Paths with fewer templates are more specific, e.g. /pets/mine before /pets/{id}/{view}
+        templateRoutes.sort(Comparator.comparingInt((Route route) -> route.names.length)
+                .thenComparing(Comparator.comparingInt((Route route) -> route.literalLength).reversed()));
+        return new OASRequestValidator(literalRoutes, templateRoutes);
+    }
+
+    /**
+     * Validates a request against the operation of the document which matches its method and path.
+     *
+     * @param request
+     *            the request
+     * @return the violations, or an empty list if the request is valid
+     */
+    public List<OASViolation> validate(Request request) {
+        String path = request.getPath();
+        Route route = literalRoutes.get(path);
+        Matcher matcher = null;
+        if (route == null) {
+            for (Route candidate : templateRoutes) {
+                Matcher m = candidate.pattern.matcher(path);
+                if (m.matches()) {
+                    route = candidate;
+                    matcher = m;
+                    break;
+                }
+            }
+        }
+        if (route == null) {
+            return Collections.singletonList(new OASViolation("", "no path of the document matches " + path));
+        }
+        CompiledOperation operation = route.operations.get(request.getMethod());
+        if (operation == null) {
+            return Collections.singletonList(
+                    new OASViolation("", "the path " + route.path + " has no " + request.getMethod() + " operation"));
+        }
+        List<OASViolation> violations = new ArrayList<>(0);
+        operation.validate(request, matcher, violations);
+        return violations;
+    }
+
+    /**
+     * A path of the document.
+     */
+    private static final class Route {
+        private final String path;
+        private final Pattern pattern;
+        private final String[] names;
+        private final int literalLength;
+        private final Map<PathItem.HttpMethod, CompiledOperation> operations = new EnumMap<>(
+                PathItem.HttpMethod.class);
+
+        Route(String path) {
+            this.path = path;
+            Matcher matcher = TEMPLATE.matcher(path);
+            StringBuilder regex = new StringBuilder();
+            List<String> templateNames = new ArrayList<>();
+            int start = 0;
+            int literal = 0;
+            while (matcher.find()) {
+                regex.append(Pattern.quote(path.substring(start, matcher.start()))).append("([^/]+)");
+                literal += matcher.start() - start;
+                templateNames.add(matcher.group(1));
+                start = matcher.end();
+            }
+            literal += path.length() - start;
+            this.names = templateNames.toArray(new String[0]);
+            this.literalLength = literal;
+            if (templateNames.isEmpty()) {
+                this.pattern = null;
+            } else {
+                regex.append(Pattern.quote(path.substring(start)));
+                this.pattern = Pattern.compile(regex.toString());
+            }
+        }
+
+        int group(String name) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) {
+                    return i + 1;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * An operation with its parameters and request body.
+     */
+    private static final class CompiledOperation {
+        private final CompiledParameter[] parameters;
+        private final boolean hasBody;
+        private final boolean bodyRequired;
+        private final Map<String, SchemaValidator> bodies = new HashMap<>();
+
+        CompiledOperation(Route route, PathItem pathItem, Operation operation, Components components,
+                SchemaValidator.Compiler schemas) {
+            // Operation parameters override the path item parameters with the same name and location
+            Map<String, Parameter> merged = new LinkedHashMap<>();
+            addParameters(merged, pathItem.getParameters(), components);
+            addParameters(merged, operation.getParameters(), components);
+            List<CompiledParameter> compiled = new ArrayList<>(merged.size());
+            for (Parameter parameter : merged.values()) {
+                compiled.add(new CompiledParameter(route, parameter, schemas));
+            }
+            this.parameters = compiled.toArray(new CompiledParameter[0]);
+
+            RequestBody body = resolve(operation.getRequestBody(), components);
+            this.hasBody = body != null;
+            this.bodyRequired = body != null && Boolean.TRUE.equals(body.getRequired());
+            if (body != null && body.getContent() != null && body.getContent().getMediaTypes() != null) {
+                for (Map.Entry<String, MediaType> entry : body.getContent().getMediaTypes().entrySet()) {
+                    Schema schema = entry.getValue() == null ? null : entry.getValue().getSchema();
+                    bodies.put(mediaType(entry.getKey()), schemas.compile(schema));
+                }
+            }
+        }
+
+        void validate(Request request, Matcher matcher, List<OASViolation> violations) {
+            for (CompiledParameter parameter : parameters) {
+                parameter.validate(request, matcher, violations);
+            }
+            if (!hasBody) {
+                return;
+            }
+            if (!request.hasBody()) {
+                if (bodyRequired) {
+                    violations.add(new OASViolation("/body", "a request body is required"));
+                }
+                return;
+            }
+            if (bodies.isEmpty()) {
+                return;
+            }
+            String mediaType = request.getMediaType() == null ? "" : mediaType(request.getMediaType());
+            SchemaValidator schema = bodies.get(mediaType);
+            if (schema == null) {
+                int slash = mediaType.indexOf('/');
+                schema = slash < 0 ? null : bodies.get(mediaType.substring(0, slash) + "/*");
+            }
+            if (schema == null) {
+                schema = bodies.get("*/*");
+            }
+            if (schema == null) {
+                violations.add(new OASViolation("/body", "unsupported media type " + request.getMediaType()));
+                return;
+            }
+            schema.validate(request.getBody(), "/body", violations);
+        }
+
+        private static void addParameters(Map<String, Parameter> merged, List<Parameter> parameters,
+                Components components) {
+            if (parameters == null) {
+                return;
+            }
+            for (Parameter parameter : parameters) {
+                Parameter resolved = resolve(parameter, components);
+                if (resolved != null && resolved.getIn() != null && resolved.getName() != null) {
+                    merged.put(resolved.getIn() + ":" + key(resolved.getIn(), resolved.getName()), resolved);
+                }
+            }
+        }
+
+        private static String mediaType(String mediaType) {
+            int semicolon = mediaType.indexOf(';');
+            String type = semicolon < 0 ? mediaType : mediaType.substring(0, semicolon);
+            return type.trim().toLowerCase(Locale.ROOT);
+        }
+
+        private static Parameter resolve(Parameter parameter, Components components) {
+            if (parameter == null || parameter.getRef() == null) {
+                return parameter;
+            }
+            String ref = parameter.getRef();
+            if (!ref.startsWith(PARAMETERS_REF) || components == null || components.getParameters() == null) {
+                return null;
+            }
+            Parameter target = components.getParameters().get(ref.substring(PARAMETERS_REF.length()));
+            return target == parameter ? null : resolve(target, components);
+        }
+
+        private static RequestBody resolve(RequestBody body, Components components) {
+            if (body == null || body.getRef() == null) {
+                return body;
+            }
+            String ref = body.getRef();
+            if (!ref.startsWith(REQUEST_BODIES_REF) || components == null || components.getRequestBodies() == null) {
+                return null;
+            }
+            RequestBody target = components.getRequestBodies().get(ref.substring(REQUEST_BODIES_REF.length()));
+            return target == body ? null : resolve(target, components);
+        }
+    }
+
+    /**
+     * A parameter of an operation.
+     */
+    private static final class CompiledParameter {
+        private final Parameter.In in;
+        private final String name;
+        private final String pointer;
+        private final boolean required;
+        private final boolean explode;
+        private final boolean named;
+        private final int group;
+        private final SchemaValidator schema;
+
+        CompiledParameter(Route route, Parameter parameter, SchemaValidator.Compiler schemas) {
+            this.in = parameter.getIn();
+            this.name = parameter.getName();
+            this.pointer = "/" + in + "/" + OASDiff.escape(name);
+            this.required = in == Parameter.In.PATH || Boolean.TRUE.equals(parameter.getRequired());
+            Parameter.Style style = parameter.getStyle();
+            if (style == null) {
+                style = in == Parameter.In.QUERY || in == Parameter.In.COOKIE
+                        ? Parameter.Style.FORM
+                        : Parameter.Style.SIMPLE;
+            }
+            this.explode = parameter.getExplode() != null ? parameter.getExplode() : style == Parameter.Style.FORM;
+            this.group = in == Parameter.In.PATH ? route.group(name) : -1;
+            SchemaValidator compiled = schemas.compile(parameter.getSchema());
+            // The properties of these objects are sent as parameters named after them
+            this.named = compiled.getType() != Schema.SchemaType.OBJECT
+                    || (style != Parameter.Style.DEEPOBJECT && (style != Parameter.Style.FORM || !explode));
+            boolean parsed = style == Parameter.Style.FORM || style == Parameter.Style.SIMPLE;
+            this.schema = named && parsed ? compiled : SchemaValidator.ANY;
+        }
+
+        void validate(Request request, Matcher matcher, List<OASViolation> violations) {
+            if (!named) {
+                return;
+            }
+            List<String> values;
+            if (in == Parameter.In.PATH) {
+                values = matcher == null || group < 0 ? null : Collections.singletonList(matcher.group(group));
+            } else {
+                values = request.getParameterValues(in, name);
+            }
+            if (values == null || values.isEmpty()) {
+                if (required && (in != Parameter.In.PATH || group >= 0)) {
+                    violations.add(new OASViolation(pointer, "missing required parameter"));
+                }
+                return;
+            }
+            if (schema != SchemaValidator.ANY) {
+                schema.validate(schema.parse(values, explode), pointer, violations);
+            }
+        }
+    }
+
+    private static String key(Parameter.In in, String name) {
+        return in == Parameter.In.HEADER ? name.toLowerCase(Locale.ROOT) : name;
+    }
+}
@@ -0,0 +1,296 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+
+/**
+ * Removes the duplicated schemas of an OpenAPI document.
+ * <p>
+ * Structurally equivalent schemas (see {@link OASEquivalence}) are replaced by a single shared instance. Optionally,
+ * object and composed schemas which occur inline at least a given number of times are moved to the {@code schemas} of
+ * the {@link Components} and replaced by references. When schemas are extracted, inline object and composed schemas
+ * which are equivalent to a schema already defined in the components are replaced by references to it as well, whatever
+ * their number of occurrences. Other inline schemas, and all inline schemas when no extraction threshold is given, are
+ * only shared.
+ * <p>
+ * Since the schemas are shared after deduplication, modifying a schema affects every location where it is used. The
+ * deduplication is therefore meant to be the last processing step of a document, after filtering. Vendors apply it when
+ * {@link OASConfig#SCHEMAS_DEDUPLICATE} is enabled, with the threshold configured by
+ * {@link OASConfig#SCHEMAS_EXTRACT_THRESHOLD}.
+ *
+ * @since 3.2
+ */
+public final class OASSchemaDeduplicator {
+
+    private static final String DEFAULT_NAME = "InlineSchema";
+
+    private final OASEquivalence equivalence = new OASEquivalence();
+    private final Map<Integer, List<Schema>> buckets = new HashMap<>();
+    private final Map<Schema, Schema> canonical = new IdentityHashMap<>();
+    private final Set<Schema> interning = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<Schema, Integer> occurrences = new IdentityHashMap<>();
+    private final List<Schema> inline = new ArrayList<>();
+    private final Map<Schema, String> references = new IdentityHashMap<>();
+
+    private OASSchemaDeduplicator() {
+    }
+
+    /**
+     * Deduplicates the schemas of a document in place.
+     *
+     * @param openAPI
+     *            the document
+     * @param extractThreshold
+     *            the minimum number of inline occurrences of an object or composed schema for it to be moved to the
+     *            components, or 0 to only share the instances of equivalent schemas, without replacing any inline
+     *            schema by a reference
+     * @return the names of the schemas added to the components, in the order in which they were added
+     */
+    public static Set<String> deduplicate(OpenAPI openAPI, int extractThreshold) {
+        OASSchemaDeduplicator deduplicator = new OASSchemaDeduplicator();
+        deduplicator.visitModel(openAPI.getComponents());
+        deduplicator.visitModel(openAPI);
+        if (extractThreshold <= 0) {
+            return Collections.emptySet();
+        }
+        return deduplicator.extract(openAPI, extractThreshold);
+    }
+
+    private void visitModel(Object model) {
+        if (model != null && visited.add(model)) {
+            internProperties(model);
+        }
+    }
+
+    private void internProperties(Object model) {
+        for (ModelProperties.Accessor accessor : ModelProperties.accessors(model)) {
+            Object value = accessor.get(model);
+            if (ModelProperties.isEmpty(value)) {
+                continue;
+            }
+            if (isSchemaProperty(accessor)) {
+                Object replaced = replaceSchemas(value, this::intern);
+                if (replaced != value) {
+                    accessor.set(model, replaced);
+                }
+            } else {
+                forEachModel(value, this::visitModel);
+            }
+        }
+    }
+
+    private Schema intern(Schema schema) {
+        Schema result = canonical.get(schema);
+        if (result != null) {
+            return result;
+        }
+        if (!interning.add(schema)) {
+            // Recursive schema, interned when the outer call completes
+            return schema;
+        }
+        try {
+            internProperties(schema);
+            List<Schema> bucket = buckets.computeIfAbsent(equivalence.hash(schema), k -> new ArrayList<>());
+            for (Schema candidate : bucket) {
+                if (equivalence.equivalent(candidate, schema)) {
+                    canonical.put(schema, candidate);
+                    return candidate;
+                }
+            }
+            bucket.add(schema);
+            canonical.put(schema, schema);
+            return schema;
+        } finally {
+            interning.remove(schema);
+        }
+    }
+
+    private Set<String> extract(OpenAPI openAPI, int threshold) {
+        Components components = openAPI.getComponents();
+        Map<String, Schema> existing = components == null || components.getSchemas() == null
+                ? Collections.emptyMap()
+                : components.getSchemas();
+        Map<Schema, String> names = new IdentityHashMap<>();
+        for (Map.Entry<String, Schema> entry : existing.entrySet()) {
+            names.putIfAbsent(entry.getValue(), entry.getKey());
+        }
+
+        visited.clear();
+        count(openAPI);
+
+        Map<String, Schema> added = new LinkedHashMap<>();
+        for (Schema schema : inline) {
+            if (!isComposite(schema)) {
+                continue;
+            }
+            String name = names.get(schema);
+            if (name == null && occurrences.get(schema) >= threshold) {
+                name = uniqueName(schema, existing, added);
+                added.put(name, schema);
+            }
+            if (name != null) {
+                references.put(schema, name);
+            }
+        }
+        if (references.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        if (!added.isEmpty()) {
+            if (components == null) {
+                components = OASFactory.createComponents();
+                openAPI.setComponents(components);
+            }
+            for (Map.Entry<String, Schema> entry : added.entrySet()) {
+                components.addSchema(entry.getKey(), entry.getValue());
+            }
+        }
+        visited.clear();
+        replaceReferences(openAPI);
+        return new LinkedHashSet<>(added.keySet());
+    }
+
+    private void count(Object model) {
+        if (!visited.add(model)) {
+            return;
+        }
+        for (ModelProperties.Accessor accessor : ModelProperties.accessors(model)) {
+            Object value = accessor.get(model);
+            if (ModelProperties.isEmpty(value)) {
+                continue;
+            }
+            if (isSchemaProperty(accessor) && !(model instanceof Components)) {
+                forEachModel(value, schema -> {
+                    if (occurrences.merge((Schema) schema, 1, Integer::sum) == 1) {
+                        inline.add((Schema) schema);
+                    }
+                });
+            }
+            forEachModel(value, this::count);
+        }
+    }
+
+    private void replaceReferences(Object model) {
+        if (!visited.add(model)) {
+            return;
+        }
+        for (ModelProperties.Accessor accessor : ModelProperties.accessors(model)) {
+            Object value = accessor.get(model);
+            if (ModelProperties.isEmpty(value)) {
+                continue;
+            }
+            forEachModel(value, this::replaceReferences);
+            if (isSchemaProperty(accessor) && !(model instanceof Components)) {
+                Object replaced = replaceSchemas(value, schema -> {
+                    String name = references.get(schema);
+                    return name == null ? schema : OASFactory.createSchema().ref(name);
+                });
+                if (replaced != value) {
+                    accessor.set(model, replaced);
+                }
+            }
+        }
+    }
+
+    private static boolean isSchemaProperty(ModelProperties.Accessor accessor) {
+        return accessor.elementType() == Schema.class && !accessor.isFlattened();
+    }
+
+    private static boolean isComposite(Schema schema) {
+        return schema.getRef() == null
+                && (!ModelProperties.isEmpty(schema.getProperties())
+                        || !ModelProperties.isEmpty(schema.getAllOf())
+                        || !ModelProperties.isEmpty(schema.getAnyOf())
+                        || !ModelProperties.isEmpty(schema.getOneOf()));
+    }
+
+    private static String uniqueName(Schema schema, Map<String, Schema> existing, Map<String, Schema> added) {
+        String base = schema.getTitle() == null ? "" : schema.getTitle().replaceAll("[^a-zA-Z0-9\\.\\-_]", "");
+        if (base.isEmpty()) {
+            base = DEFAULT_NAME;
+        }
+        String name = base;
+        for (int i = 1; existing.containsKey(name) || added.containsKey(name); i++) {
+            name = base + i;
+        }
+        return name;
+    }
+
+    /**
+     * Applies a function to a schema, or to the schemas of a list or a map.
+     *
+     * @return the value itself if the function returned the same schemas, otherwise a new schema, list or map
+     */
+    private static Object replaceSchemas(Object value, UnaryOperator<Schema> function) {
+        if (value instanceof Schema) {
+            return function.apply((Schema) value);
+        }
+        if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            List<Object> result = new ArrayList<>(list.size());
+            boolean changed = false;
+            for (Object item : list) {
+                Object replaced = item instanceof Schema ? function.apply((Schema) item) : item;
+                changed |= replaced != item;
+                result.add(replaced);
+            }
+            return changed ? result : value;
+        }
+        if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            Map<Object, Object> result = new LinkedHashMap<>();
+            boolean changed = false;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                Object item = entry.getValue();
+                Object replaced = item instanceof Schema ? function.apply((Schema) item) : item;
+                changed |= replaced != item;
+                result.put(entry.getKey(), replaced);
+            }
+            return changed ? result : value;
+        }
+        return value;
+    }
+
+    private static void forEachModel(Object value, Consumer<Object> action) {
+        if (ModelProperties.isModel(value)) {
+            action.accept(value);
+        } else if (value instanceof Map) {
+            for (Object item : ((Map<?, ?>) value).values()) {
+                forEachModel(item, action);
+            }
+        } else if (value instanceof List) {
+            for (Object item : (List<?>) value) {
+                forEachModel(item, action);
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.microprofile.openapi.models.Constructible;
+
+/**
+ * A bounded pool of the strings of an OpenAPI document.
+ * <p>
+ * Names such as media types, response codes, formats, parameter names and {@code $ref} values occur many times in a
+ * large document. A pool returns a single instance for all the equal strings it is given, so that model factories and
+ * document parsers can share these instances instead of keeping a copy per occurrence. Unlike {@link String#intern()},
+ * a pool is meant to be scoped to a single document and released with it, and it holds at most a fixed number of
+ * strings: once it is full, strings which are not already pooled are returned as is.
+ * <p>
+ * Instances of this class are thread safe.
+ *
+ * @since 3.2
+ */
+public final class OASStringPool {
+
+    /**
+     * The default maximum number of strings held by a pool.
+     */
+    public static final int DEFAULT_MAX_SIZE = 16384;
+
+    private final ConcurrentMap<String, String> strings = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    /**
+     * Creates a pool holding at most {@link #DEFAULT_MAX_SIZE} strings.
+     */
+    public OASStringPool() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a pool holding at most the given number of strings.
+     *
+     * @param maxSize
+     *            the maximum number of strings held by the pool
+     * @throws IllegalArgumentException
+     *             if the maximum size is negative
+     */
+    public OASStringPool(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The maximum size of a string pool must not be negative: " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the pooled instance of a string. The string is added to the pool if it is not pooled yet and the pool is
+     * not full.
+     *
+     * @param value
+     *            a string, may be null
+     * @return a string equal to the given one, or null if the given string is null
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String pooled = strings.get(value);
+        if (pooled != null) {
+            return pooled;
+        }
+        if (strings.size() >= maxSize) {
+            return value;
+        }
+        pooled = strings.putIfAbsent(value, value);
+        return pooled == null ? value : pooled;
+    }
+
+    /**
+     * Returns the number of strings held by this pool.
+     *
+     * @return the number of pooled strings
+     */
+    public int size() {
+        return strings.size();
+    }
+
+    /**
+     * Replaces the strings of a model tree, including the keys of its maps, with their pooled instances.
+     *
+     * @param <T>
+     *            the type of the model object
+     * @param model
+     *            the root of the model tree, e.g. an {@code OpenAPI} document
+     * @return the given model object
+     */
+    public <T extends Constructible> T internAll(T model) {
+        new Walker().visitModel(model);
+        return model;
+    }
+
+    /**
+     * Walks a model tree once and replaces the properties which contain strings that are not pooled.
+     */
+    private final class Walker {
+        private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        void visitModel(Object model) {
+            if (!visited.add(model)) {
+                return;
+            }
+            for (ModelProperties.Accessor accessor : ModelProperties.accessors(model)) {
+                Object value = accessor.get(model);
+                Object pooled = internValue(value);
+                if (pooled != value) {
+                    accessor.set(model, pooled);
+                }
+            }
+        }
+
+        /**
+         * Returns the value itself if it only contains pooled strings, otherwise a copy of the value made of pooled
+         * strings. Model objects are updated in place.
+         */
+        private Object internValue(Object value) {
+            if (value instanceof String) {
+                return intern((String) value);
+            }
+            if (ModelProperties.isModel(value)) {
+                visitModel(value);
+                return value;
+            }
+            if (value instanceof Map) {
+                Map<?, ?> map = (Map<?, ?>) value;
+                Map<Object, Object> result = new LinkedHashMap<>();
+                boolean changed = false;
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    Object key = internValue(entry.getKey());
+                    Object item = internValue(entry.getValue());
+                    changed |= key != entry.getKey() || item != entry.getValue();
+                    result.put(key, item);
+                }
+                return changed ? result : value;
+            }
+            if (value instanceof List) {
+                List<?> list = (List<?>) value;
+                List<Object> result = new ArrayList<>(list.size());
+                boolean changed = false;
+                for (Object item : list) {
+                    Object pooled = internValue(item);
+                    changed |= pooled != item;
+                    result.add(pooled);
+                }
+                return changed ? result : value;
+            }
+            return value;
+        }
+    }
+}
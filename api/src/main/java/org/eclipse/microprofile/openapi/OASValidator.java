@@ -0,0 +1,539 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.Constructible;
+import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Reference;
+import org.eclipse.microprofile.openapi.models.info.Info;
+import org.eclipse.microprofile.openapi.models.info.License;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+
+/**
+ * Checks that an OpenAPI document is structurally valid.
+ * <p>
+ * The validator reports, among others, missing required fields, duplicate {@code operationId}s, local {@code $ref}s
+ * which do not resolve to a component of the expected type, undefined security schemes, and path templates which do not
+ * match the {@code in: path} parameters of their operations. All violations are reported in a single pass over the
+ * document. External references, schema formats and example values are not checked.
+ * <p>
+ * The results are kept per path item and per component, together with the components each of them refers to. After the
+ * document has been modified, {@link #revalidate(OpenAPI, OASDiff)} only walks the path items and components which
+ * changed or refer to a changed component, so that revalidating a reloaded or filtered document is proportional to the
+ * size of the changes rather than to the size of the document.
+ * <p>
+ * Example:
+ *
+ * <pre>
+ * <code>OASValidator validator = new OASValidator();
+ * List&lt;OASViolation&gt; violations = validator.validate(document);
+ * ...
+ * violations = validator.revalidate(reloaded, OASDiff.between(document, reloaded));
+ * </code>
+ * </pre>
+ * <p>
+ * Instances are not thread safe.
+ *
+ * @since 3.2
+ */
+public final class OASValidator {
+
+    private static final Pattern TEMPLATE = Pattern.compile("\\{([^/}]+)\\}");
+    private static final String COMPONENTS_REF = "#/components/";
+    private static final String ROOT = "";
+
+    private final Map<String, Unit> units = new HashMap<>();
+    private boolean validated;
+
+    /**
+     * Validates a whole document, discarding the results of previous calls.
+     *
+     * @param openAPI
+     *            the document
+     * @return the violations, or an empty list if the document is valid
+     */
+    public List<OASViolation> validate(OpenAPI openAPI) {
+        units.clear();
+        validated = true;
+        return collect(openAPI, null);
+    }
+
+    /**
+     * Validates a document which differs from the previously validated document by the given differences. Only the path
+     * items and components that changed, or that refer to a changed component, are walked again.
+     *
+     * @param openAPI
+     *            the modified document
+     * @param diff
+     *            the differences between the previously validated document and this one
+     * @return all the violations of the document, or an empty list if the document is valid
+     */
+    public List<OASViolation> revalidate(OpenAPI openAPI, OASDiff diff) {
+        List<String> changed = new ArrayList<>(diff.getChanges().size());
+        for (OASDiff.Change change : diff.getChanges()) {
+            changed.add(change.getPath());
+        }
+        return revalidate(openAPI, changed);
+    }
+
+    /**
+     * Validates a document in which the elements located by the given JSON Pointers have been added, removed or changed
+     * since the previous call. Only the path items and components that contain one of these elements, or that refer to
+     * a changed component, are walked again. If no document has been validated yet, the whole document is validated.
+     *
+     * @param openAPI
+     *            the modified document
+     * @param changedPointers
+     *            the JSON Pointers of the changed elements, e.g. {@code /paths/~1pets/get/operationId}
+     * @return all the violations of the document, or an empty list if the document is valid
+     */
+    public List<OASViolation> revalidate(OpenAPI openAPI, Collection<String> changedPointers) {
+        if (!validated) {
+            return validate(openAPI);
+        }
+        Changes changes = new Changes();
+        for (String pointer : changedPointers) {
+            changes.add(pointer);
+        }
+        if (changes.all) {
+            return validate(openAPI);
+        }
+        return collect(openAPI, changes);
+    }
+
+    /**
+     * Validates the units of the document which are not cached or are affected by the changes, and combines the results
+     * of all units.
+     */
+    private List<OASViolation> collect(OpenAPI openAPI, Changes changes) {
+        Map<String, ModelProperties.Accessor> componentTypes = new LinkedHashMap<>();
+        Components components = openAPI.getComponents();
+        if (components != null) {
+            for (ModelProperties.Accessor accessor : ModelProperties.accessors(components)) {
+                if (accessor.name() != null && Constructible.class.isAssignableFrom(accessor.elementType())) {
+                    componentTypes.put(accessor.name(), accessor);
+                }
+            }
+        }
+
+        Map<String, Unit> current = new LinkedHashMap<>();
+        current.put(ROOT, unit(ROOT, changes, () -> {
+            Walker walker = new Walker(openAPI, componentTypes);
+            walker.validateRoot();
+            return walker.unit;
+        }));
+        Map<String, PathItem> pathItems = openAPI.getPaths() == null ? null : openAPI.getPaths().getPathItems();
+        if (pathItems != null) {
+            for (Map.Entry<String, PathItem> entry : pathItems.entrySet()) {
+                String key = "/paths/" + OASDiff.escape(entry.getKey());
+                current.put(key, unit(key, changes, () -> {
+                    Walker walker = new Walker(openAPI, componentTypes, "paths", entry.getKey());
+                    walker.validatePath(entry.getKey(), entry.getValue());
+                    return walker.unit;
+                }));
+            }
+        }
+        for (ModelProperties.Accessor accessor : componentTypes.values()) {
+            Map<?, ?> entries = (Map<?, ?>) accessor.get(components);
+            if (entries == null) {
+                continue;
+            }
+            for (Map.Entry<?, ?> entry : entries.entrySet()) {
+                String name = String.valueOf(entry.getKey());
+                String key = "/components/" + accessor.name() + "/" + OASDiff.escape(name);
+                current.put(key, unit(key, changes, () -> {
+                    Walker walker = new Walker(openAPI, componentTypes, "components", accessor.name(), name);
+                    walker.walk(entry.getValue());
+                    return walker.unit;
+                }));
+            }
+        }
+        units.clear();
+        units.putAll(current);
+
+        List<OASViolation> violations = new ArrayList<>();
+        Map<String, String> operationIds = new HashMap<>();
+        for (Unit unit : current.values()) {
+            violations.addAll(unit.violations);
+            for (Map.Entry<String, String> operation : unit.operationIds) {
+                String first = operationIds.putIfAbsent(operation.getKey(), operation.getValue());
+                if (first != null) {
+                    violations.add(new OASViolation(operation.getValue(),
+                            "operationId " + operation.getKey() + " is not unique, see " + first));
+                }
+            }
+        }
+        return violations;
+    }
+
+    private Unit unit(String key, Changes changes, Supplier<Unit> validation) {
+        Unit cached = units.get(key);
+        if (cached != null && changes != null && !changes.affects(key) && !changes.affectsAny(cached.dependencies)) {
+            return cached;
+        }
+        return validation.get();
+    }
+
+    /**
+     * The validation results of the root of the document, of a path item or of a component.
+     */
+    private static final class Unit {
+        private final List<OASViolation> violations = new ArrayList<>(0);
+        private final List<Map.Entry<String, String>> operationIds = new ArrayList<>(0);
+        private final Set<String> dependencies = new HashSet<>();
+    }
+
+    /**
+     * The units affected by a set of changed JSON Pointers.
+     */
+    private static final class Changes {
+        private final Set<String> keys = new HashSet<>();
+        private final List<String> prefixes = new ArrayList<>();
+        private boolean all;
+
+        void add(String pointer) {
+            if (pointer.isEmpty()) {
+                all = true;
+                return;
+            }
+            String[] segments = pointer.substring(1).split("/", -1);
+            if ("paths".equals(segments[0]) && segments.length >= 2) {
+                keys.add("/paths/" + segments[1]);
+            } else if ("components".equals(segments[0]) && segments.length >= 3) {
+                keys.add("/components/" + segments[1] + "/" + segments[2]);
+            } else {
+                // e.g. /info/title, or /components/schemas when all the schemas were added or removed
+                keys.add(ROOT);
+                prefixes.add(pointer);
+            }
+        }
+
+        boolean affects(String key) {
+            if (keys.contains(key)) {
+                return true;
+            }
+            for (String prefix : prefixes) {
+                if (key.startsWith(prefix + "/")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean affectsAny(Set<String> dependencies) {
+            for (String dependency : dependencies) {
+                if (affects(dependency)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Walks one unit of the document.
+     */
+    private static final class Walker {
+        private final Unit unit = new Unit();
+        private final OpenAPI openAPI;
+        private final Map<String, ModelProperties.Accessor> componentTypes;
+        private final List<String> segments = new ArrayList<>();
+        private final Set<Object> path = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        Walker(OpenAPI openAPI, Map<String, ModelProperties.Accessor> componentTypes, String... segments) {
+            this.openAPI = openAPI;
+            this.componentTypes = componentTypes;
+            Collections.addAll(this.segments, segments);
+        }
+
+        void validateRoot() {
+            if (openAPI.getOpenapi() == null) {
+                report("openapi", "is required");
+            }
+            if (openAPI.getInfo() == null) {
+                report("info", "is required");
+            }
+            if (openAPI.getPaths() == null) {
+                report("paths", "is required");
+            }
+            if (openAPI.getTags() != null) {
+                Set<String> names = new HashSet<>();
+                for (int i = 0; i < openAPI.getTags().size(); i++) {
+                    Tag tag = openAPI.getTags().get(i);
+                    if (tag != null && tag.getName() != null && !names.add(tag.getName())) {
+                        report("tags/" + i, "tag " + tag.getName() + " is not unique");
+                    }
+                }
+            }
+            // Path items and components are validated as units of their own
+            for (ModelProperties.Accessor accessor : ModelProperties.accessors(openAPI)) {
+                if (accessor.name() != null && !"paths".equals(accessor.name())
+                        && !"components".equals(accessor.name())) {
+                    walkProperty(accessor.name(), accessor.get(openAPI));
+                }
+            }
+        }
+
+        void validatePath(String name, PathItem pathItem) {
+            if (!name.startsWith("/")) {
+                report(null, "path must begin with /");
+            }
+            walk(pathItem);
+            if (pathItem == null || pathItem.getRef() != null) {
+                return;
+            }
+            Set<String> templates = new HashSet<>();
+            Matcher matcher = TEMPLATE.matcher(name);
+            while (matcher.find()) {
+                templates.add(matcher.group(1));
+            }
+            Map<String, Parameter> common = parameters(pathItem.getParameters(), "parameters", templates);
+            pathItem.forEachOperation((method, operation) -> {
+                String prefix = method.name().toLowerCase(Locale.ROOT);
+                Map<String, Parameter> declared = new HashMap<>(common);
+                declared.putAll(parameters(operation.getParameters(), prefix + "/parameters", templates));
+                for (String template : templates) {
+                    Parameter parameter = declared.get(Parameter.In.PATH + ":" + template);
+                    if (parameter == null) {
+                        report(prefix, "no path parameter is defined for the template {" + template + "}");
+                    }
+                }
+            });
+        }
+
+        /**
+         * Resolves a list of parameters, reports duplicates and path parameters which do not occur in the path, and
+         * returns them by location and name.
+         */
+        private Map<String, Parameter> parameters(List<Parameter> parameters, String location, Set<String> templates) {
+            Map<String, Parameter> result = new HashMap<>();
+            if (parameters == null) {
+                return result;
+            }
+            for (int i = 0; i < parameters.size(); i++) {
+                Parameter parameter = resolve(parameters.get(i));
+                if (parameter == null || parameter.getIn() == null || parameter.getName() == null) {
+                    continue;
+                }
+                String key = parameter.getIn() + ":" + parameter.getName();
+                if (result.put(key, parameter) != null) {
+                    report(location + "/" + i, "parameter " + parameter.getName() + " in " + parameter.getIn()
+                            + " is defined more than once");
+                }
+                if (parameter.getIn() == Parameter.In.PATH && !templates.contains(parameter.getName())) {
+                    report(location + "/" + i, "path parameter " + parameter.getName() + " does not occur in the path");
+                }
+            }
+            return result;
+        }
+
+        private Parameter resolve(Parameter parameter) {
+            Parameter current = parameter;
+            Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+            while (current != null && current.getRef() != null && seen.add(current)) {
+                String ref = current.getRef();
+                if (!ref.startsWith(COMPONENTS_REF + "parameters/")) {
+                    return null;
+                }
+                unit.dependencies.add(ref.substring(1));
+                Object target =
+                        component("parameters", ref.substring(COMPONENTS_REF.length() + "parameters/".length()));
+                current = target instanceof Parameter ? (Parameter) target : null;
+            }
+            return current != null && current.getRef() == null ? current : null;
+        }
+
+        private Object component(String type, String escapedName) {
+            ModelProperties.Accessor accessor = componentTypes.get(type);
+            if (accessor == null) {
+                return null;
+            }
+            Map<?, ?> entries = (Map<?, ?>) accessor.get(openAPI.getComponents());
+            return entries == null ? null : entries.get(unescape(escapedName));
+        }
+
+        void walk(Object value) {
+            if (ModelProperties.isModel(value)) {
+                if (!path.add(value)) {
+                    return;
+                }
+                if (check(value)) {
+                    for (ModelProperties.Accessor accessor : ModelProperties.accessors(value)) {
+                        Object property = accessor.get(value);
+                        if (ModelProperties.isEmpty(property)) {
+                            continue;
+                        }
+                        if (accessor.isFlattened()) {
+                            walkEntries((Map<?, ?>) property);
+                        } else {
+                            walkProperty(accessor.name(), property);
+                        }
+                    }
+                }
+                path.remove(value);
+            } else if (value instanceof Map) {
+                walkEntries((Map<?, ?>) value);
+            } else if (value instanceof List) {
+                List<?> list = (List<?>) value;
+                for (int i = 0; i < list.size(); i++) {
+                    walkProperty(String.valueOf(i), list.get(i));
+                }
+            }
+        }
+
+        private void walkEntries(Map<?, ?> entries) {
+            for (Map.Entry<?, ?> entry : entries.entrySet()) {
+                walkProperty(String.valueOf(entry.getKey()), entry.getValue());
+            }
+        }
+
+        private void walkProperty(String name, Object value) {
+            if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean) {
+                return;
+            }
+            segments.add(name);
+            walk(value);
+            segments.remove(segments.size() - 1);
+        }
+
+        /**
+         * Checks the fields of a model object, and returns whether its properties must be walked.
+         */
+        private boolean check(Object model) {
+            if (model instanceof Reference && ((Reference<?>) model).getRef() != null) {
+                checkRef(model, ((Reference<?>) model).getRef());
+                // The other properties of a reference are ignored
+                return false;
+            }
+            if (model instanceof Operation) {
+                Operation operation = (Operation) model;
+                if (operation.getOperationId() != null) {
+                    unit.operationIds.add(
+                            new AbstractMap.SimpleImmutableEntry<>(operation.getOperationId(), pointer(null)));
+                }
+                if (operation.getResponses() == null || operation.getResponses().getAPIResponses() == null
+                        || operation.getResponses().getAPIResponses().isEmpty()) {
+                    report("responses", "at least one response is required");
+                }
+            } else if (model instanceof Parameter) {
+                Parameter parameter = (Parameter) model;
+                required("name", parameter.getName());
+                required("in", parameter.getIn());
+                if (parameter.getIn() == Parameter.In.PATH && !Boolean.TRUE.equals(parameter.getRequired())) {
+                    report("required", "path parameters must be required");
+                }
+                if (parameter.getSchema() != null && parameter.getContent() != null) {
+                    report(null, "schema and content are mutually exclusive");
+                }
+            } else if (model instanceof APIResponse) {
+                required("description", ((APIResponse) model).getDescription());
+            } else if (model instanceof Info) {
+                required("title", ((Info) model).getTitle());
+                required("version", ((Info) model).getVersion());
+            } else if (model instanceof License) {
+                required("name", ((License) model).getName());
+            } else if (model instanceof Server) {
+                required("url", ((Server) model).getUrl());
+            } else if (model instanceof Tag) {
+                required("name", ((Tag) model).getName());
+            } else if (model instanceof ExternalDocumentation) {
+                required("url", ((ExternalDocumentation) model).getUrl());
+            } else if (model instanceof SecurityScheme) {
+                required("type", ((SecurityScheme) model).getType());
+            } else if (model instanceof SecurityRequirement && ((SecurityRequirement) model).getSchemes() != null) {
+                for (String name : ((SecurityRequirement) model).getSchemes().keySet()) {
+                    String escaped = OASDiff.escape(name);
+                    unit.dependencies.add("/components/securitySchemes/" + escaped);
+                    if (!(component("securitySchemes", escaped) instanceof SecurityScheme)) {
+                        report(escaped, "security scheme " + name + " is not defined in the components");
+                    }
+                }
+            }
+            return true;
+        }
+
+        private void checkRef(Object model, String ref) {
+            if (!ref.startsWith(COMPONENTS_REF)) {
+                // External references and other local references are not checked
+                return;
+            }
+            String[] parts = ref.substring(COMPONENTS_REF.length()).split("/", -1);
+            if (parts.length != 2) {
+                report("$ref", ref + " does not refer to a component");
+                return;
+            }
+            unit.dependencies.add(ref.substring(1));
+            ModelProperties.Accessor accessor = componentTypes.get(parts[0]);
+            Object target = component(parts[0], parts[1]);
+            if (target == null) {
+                report("$ref", ref + " cannot be resolved");
+            } else if (accessor.elementType() != ModelProperties.modelType(model)) {
+                report("$ref", ref + " does not refer to a " + ModelProperties.modelType(model).getSimpleName());
+            }
+        }
+
+        private void required(String name, Object value) {
+            if (value == null) {
+                report(name, "is required");
+            }
+        }
+
+        private void report(String name, String message) {
+            unit.violations.add(new OASViolation(pointer(name), message));
+        }
+
+        private String pointer(String name) {
+            StringBuilder pointer = new StringBuilder();
+            for (String segment : segments) {
+                pointer.append('/').append(OASDiff.escape(segment));
+            }
+            if (name != null) {
+                // Names are relative pointers, already escaped
+                pointer.append('/').append(name);
+            }
+            return pointer.toString();
+        }
+
+        private static String unescape(String segment) {
+            return segment.replace("~1", "/").replace("~0", "~");
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi;
+
+import java.util.Objects;
+
+/**
+ * A constraint violation found when validating a request or a document against an OpenAPI model.
+ *
+ * @since 3.2
+ */
+public final class OASViolation {
+    private final String pointer;
+    private final String message;
+
+    /**
+     * Creates a violation.
+     *
+     * @param pointer
+     *            the location of the invalid element, as a JSON Pointer
+     * @param message
+     *            a description of the violation
+     */
+    public OASViolation(String pointer, String message) {
+        this.pointer = Objects.requireNonNull(pointer, "pointer");
+        this.message = Objects.requireNonNull(message, "message");
+    }
+
+    /**
+     * Returns the location of the invalid element as a JSON Pointer, e.g. {@code /query/limit} for a request parameter
+     * or {@code /paths/~1pets/get/operationId} for an element of a document.
+     *
+     * @return the JSON Pointer to the invalid element
+     */
+    public String getPointer() {
+        return pointer;
+    }
+
+    /**
+     * Returns a description of the violation.
+     *
+     * @return the message
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof OASViolation)) {
+            return false;
+        }
+        OASViolation other = (OASViolation) obj;
+        return pointer.equals(other.pointer) && message.equals(other.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * pointer.hashCode() + message.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return pointer + ": " + message;
+    }
+}
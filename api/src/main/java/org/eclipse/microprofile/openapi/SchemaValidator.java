@@ -0,0 +1,576 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+import org.eclipse.microprofile.openapi.models.media.SchemaGraph;
+
+/**
+ * A {@link Schema} compiled for validating values: references are resolved, patterns are compiled and enumerations are
+ * hashed. The {@code oneOf} and {@code anyOf} alternatives of a schema with a discriminator are looked up by the value
+ * of the discriminator property rather than tried one by one. Values are trees of maps, lists, strings, numbers,
+ * booleans and nulls, as produced by JSON parsers.
+ * <p>
+ * Formats are not validated.
+ */
+final class SchemaValidator {
+
+    private static final String SCHEMAS_REF = "#/components/schemas/";
+
+    /**
+     * Validator which accepts any value.
+     */
+    static final SchemaValidator ANY = new SchemaValidator();
+
+    private SchemaType type;
+    private boolean nullable;
+    private Set<Object> enumeration;
+    private BigDecimal minimum;
+    private boolean exclusiveMinimum;
+    private BigDecimal maximum;
+    private boolean exclusiveMaximum;
+    private BigDecimal multipleOf;
+    private int minLength = -1;
+    private int maxLength = -1;
+    private Pattern pattern;
+    private int minItems = -1;
+    private int maxItems = -1;
+    private boolean uniqueItems;
+    private SchemaValidator items;
+    private int minProperties = -1;
+    private int maxProperties = -1;
+    private Map<String, SchemaValidator> properties;
+    private String[] required;
+    private boolean additionalPropertiesAllowed = true;
+    private SchemaValidator additionalProperties;
+    private SchemaValidator[] allOf;
+    private SchemaValidator[] anyOf;
+    private SchemaValidator[] oneOf;
+    private SchemaValidator not;
+    private String discriminator;
+    private Map<String, SchemaValidator> discriminatorMapping;
+    /**
+     * The validator of the target of a reference, set once compiled, if this validator stands for the reference.
+     */
+    private SchemaValidator target;
+
+    private SchemaValidator() {
+    }
+
+    /**
+     * Returns the type of the values accepted by this validator.
+     *
+     * @return the type, or null if any type is accepted
+     */
+    SchemaType getType() {
+        return target != null ? target.getType() : type;
+    }
+
+    /**
+     * Validates a value and adds the violations to the given list.
+     *
+     * @param value
+     *            the value to validate
+     * @param pointer
+     *            the location of the value, for the violations
+     * @param violations
+     *            the list to add the violations to
+     */
+    void validate(Object value, String pointer, List<OASViolation> violations) {
+        if (target != null) {
+            target.validate(value, pointer, violations);
+            return;
+        }
+        if (this == ANY) {
+            return;
+        }
+        if (value == null) {
+            if (type != null && !nullable) {
+                violations.add(new OASViolation(pointer, "must not be null"));
+            }
+            return;
+        }
+        if (type != null && !hasType(value)) {
+            violations.add(new OASViolation(pointer, "must be of type " + type));
+            return;
+        }
+        if (enumeration != null && !enumeration.contains(normalize(value))) {
+            violations.add(new OASViolation(pointer, "must be one of " + enumeration));
+        }
+        if (value instanceof String) {
+            validateString((String) value, pointer, violations);
+        } else if (value instanceof Number) {
+            BigDecimal number = toDecimal(value);
+            if (number != null) {
+                validateNumber(number, pointer, violations);
+            }
+        } else if (value instanceof Collection) {
+            validateArray((Collection<?>) value, pointer, violations);
+        } else if (value instanceof Map) {
+            validateObject((Map<?, ?>) value, pointer, violations);
+        }
+        validateComposition(value, pointer, violations);
+    }
+
+    /**
+     * Returns whether a value is valid.
+     *
+     * @param value
+     *            the value to validate
+     * @return true if there are no violations
+     */
+    boolean isValid(Object value) {
+        List<OASViolation> violations = new ArrayList<>(0);
+        validate(value, "", violations);
+        return violations.isEmpty();
+    }
+
+    /**
+     * Converts the string values of a request parameter of the {@code form} or {@code simple} style to the type
+     * expected by this validator, e.g. {@code "10"} to a number. An object is parsed from comma separated names and
+     * values, or from comma separated {@code name=value} pairs if exploded. Values which cannot be converted are
+     * returned as strings, so that the validation reports them.
+     *
+     * @param values
+     *            the values of the parameter, not empty
+     * @param explode
+     *            whether the items of an array are sent as separate values rather than as a single comma separated
+     *            value, and the properties of an object as {@code name=value} pairs
+     * @return the converted value
+     */
+    Object parse(List<String> values, boolean explode) {
+        if (target != null) {
+            return target.parse(values, explode);
+        }
+        if (type == SchemaType.OBJECT) {
+            return parseObject(values.get(0), explode);
+        }
+        if (type != SchemaType.ARRAY) {
+            return parse(values.get(0));
+        }
+        List<String> raw = values;
+        if (!explode && values.size() == 1) {
+            raw = Arrays.asList(values.get(0).split(",", -1));
+        }
+        SchemaValidator itemValidator = items == null ? ANY : items;
+        List<Object> result = new ArrayList<>(raw.size());
+        for (String value : raw) {
+            result.add(itemValidator.parse(value));
+        }
+        return result;
+    }
+
+    private Object parseObject(String value, boolean explode) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (value.isEmpty()) {
+            return result;
+        }
+        String[] tokens = value.split(",", -1);
+        if (explode) {
+            for (String token : tokens) {
+                int separator = token.indexOf('=');
+                if (separator < 0) {
+                    return value;
+                }
+                String name = token.substring(0, separator);
+                result.put(name, property(name).parse(token.substring(separator + 1)));
+            }
+        } else {
+            if (tokens.length % 2 != 0) {
+                return value;
+            }
+            for (int i = 0; i < tokens.length; i += 2) {
+                result.put(tokens[i], property(tokens[i]).parse(tokens[i + 1]));
+            }
+        }
+        return result;
+    }
+
+    private SchemaValidator property(String name) {
+        SchemaValidator property = properties == null ? null : properties.get(name);
+        if (property == null) {
+            property = additionalProperties;
+        }
+        return property == null ? ANY : property;
+    }
+
+    private Object parse(String value) {
+        if (target != null) {
+            return target.parse(value);
+        }
+        if (type == SchemaType.INTEGER || type == SchemaType.NUMBER) {
+            try {
+                return new BigDecimal(value);
+            } catch (NumberFormatException e) {
+                return value;
+            }
+        }
+        if (type == SchemaType.BOOLEAN) {
+            if ("true".equals(value)) {
+                return Boolean.TRUE;
+            }
+            if ("false".equals(value)) {
+                return Boolean.FALSE;
+            }
+        }
+        return value;
+    }
+
+    private boolean hasType(Object value) {
+        switch (type) {
+            case STRING :
+                return value instanceof String;
+            case BOOLEAN :
+                return value instanceof Boolean;
+            case NUMBER :
+                return toDecimal(value) != null;
+            case INTEGER :
+                BigDecimal number = toDecimal(value);
+                return number != null && (number.signum() == 0 || number.stripTrailingZeros().scale() <= 0);
+            case ARRAY :
+                return value instanceof Collection;
+            case OBJECT :
+                return value instanceof Map;
+            default :
+                return true;
+        }
+    }
+
+    private void validateString(String value, String pointer, List<OASViolation> violations) {
+        if (minLength >= 0 || maxLength >= 0) {
+            int length = value.codePointCount(0, value.length());
+            if (minLength >= 0 && length < minLength) {
+                violations.add(new OASViolation(pointer, "length must be at least " + minLength));
+            }
+            if (maxLength >= 0 && length > maxLength) {
+                violations.add(new OASViolation(pointer, "length must be at most " + maxLength));
+            }
+        }
+        if (pattern != null && !pattern.matcher(value).find()) {
+            violations.add(new OASViolation(pointer, "must match the pattern " + pattern.pattern()));
+        }
+    }
+
+    private void validateNumber(BigDecimal value, String pointer, List<OASViolation> violations) {
+        if (minimum != null) {
+            int comparison = value.compareTo(minimum);
+            if (comparison < 0 || (exclusiveMinimum && comparison == 0)) {
+                violations.add(new OASViolation(pointer,
+                        "must be greater than " + (exclusiveMinimum ? "" : "or equal to ") + minimum));
+            }
+        }
+        if (maximum != null) {
+            int comparison = value.compareTo(maximum);
+            if (comparison > 0 || (exclusiveMaximum && comparison == 0)) {
+                violations.add(new OASViolation(pointer,
+                        "must be less than " + (exclusiveMaximum ? "" : "or equal to ") + maximum));
+            }
+        }
+        if (multipleOf != null && multipleOf.signum() > 0
+                && value.remainder(multipleOf).signum() != 0) {
+            violations.add(new OASViolation(pointer, "must be a multiple of " + multipleOf));
+        }
+    }
+
+    private void validateArray(Collection<?> value, String pointer, List<OASViolation> violations) {
+        if (minItems >= 0 && value.size() < minItems) {
+            violations.add(new OASViolation(pointer, "must have at least " + minItems + " items"));
+        }
+        if (maxItems >= 0 && value.size() > maxItems) {
+            violations.add(new OASViolation(pointer, "must have at most " + maxItems + " items"));
+        }
+        if (uniqueItems) {
+            Set<Object> seen = new HashSet<>();
+            for (Object item : value) {
+                if (!seen.add(normalize(item))) {
+                    violations.add(new OASViolation(pointer, "items must be unique"));
+                    break;
+                }
+            }
+        }
+        if (items != null && items != ANY) {
+            int index = 0;
+            for (Object item : value) {
+                items.validate(item, pointer + "/" + index++, violations);
+            }
+        }
+    }
+
+    private void validateObject(Map<?, ?> value, String pointer, List<OASViolation> violations) {
+        if (minProperties >= 0 && value.size() < minProperties) {
+            violations.add(new OASViolation(pointer, "must have at least " + minProperties + " properties"));
+        }
+        if (maxProperties >= 0 && value.size() > maxProperties) {
+            violations.add(new OASViolation(pointer, "must have at most " + maxProperties + " properties"));
+        }
+        if (required != null) {
+            for (String name : required) {
+                if (!value.containsKey(name)) {
+                    violations.add(new OASViolation(pointer, "missing required property " + name));
+                }
+            }
+        }
+        for (Map.Entry<?, ?> entry : value.entrySet()) {
+            String name = String.valueOf(entry.getKey());
+            SchemaValidator property = properties == null ? null : properties.get(name);
+            if (property == null) {
+                property = additionalProperties;
+                if (property == null && !additionalPropertiesAllowed) {
+                    violations.add(new OASViolation(pointer, "unexpected property " + name));
+                }
+            }
+            if (property != null) {
+                property.validate(entry.getValue(), pointer + "/" + OASDiff.escape(name), violations);
+            }
+        }
+    }
+
+    private void validateComposition(Object value, String pointer, List<OASViolation> violations) {
+        if (allOf != null) {
+            for (SchemaValidator schema : allOf) {
+                schema.validate(value, pointer, violations);
+            }
+        }
+        if (discriminatorMapping != null && value instanceof Map
+                && ((Map<?, ?>) value).get(discriminator) instanceof String) {
+            // The payload names its schema, so the alternatives are not tried one by one
+            String name = (String) ((Map<?, ?>) value).get(discriminator);
+            SchemaValidator schema = discriminatorMapping.get(name);
+            if (schema == null) {
+                violations.add(new OASViolation(pointer + "/" + OASDiff.escape(discriminator),
+                        "unknown discriminator value " + name));
+            } else {
+                schema.validate(value, pointer, violations);
+            }
+        } else {
+            validateAlternatives(value, pointer, violations);
+        }
+        if (not != null && not.isValid(value)) {
+            violations.add(new OASViolation(pointer, "must not match the not schema"));
+        }
+    }
+
+    private void validateAlternatives(Object value, String pointer, List<OASViolation> violations) {
+        if (anyOf != null) {
+            boolean matched = false;
+            for (SchemaValidator schema : anyOf) {
+                if (schema.isValid(value)) {
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched) {
+                violations.add(new OASViolation(pointer, "must match at least one of the anyOf schemas"));
+            }
+        }
+        if (oneOf != null) {
+            int matches = 0;
+            for (SchemaValidator schema : oneOf) {
+                if (schema.isValid(value)) {
+                    matches++;
+                }
+            }
+            if (matches != 1) {
+                violations.add(new OASViolation(pointer,
+                        "must match exactly one of the oneOf schemas, but matches " + matches));
+            }
+        }
+    }
+
+    /**
+     * Converts a number to a {@link BigDecimal}.
+     *
+     * @return the number, or null if the value is not a finite number
+     */
+    static BigDecimal toDecimal(Object value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        }
+        if (value instanceof Double || value instanceof Float) {
+            double d = ((Number) value).doubleValue();
+            return Double.isNaN(d) || Double.isInfinite(d) ? null : BigDecimal.valueOf(d);
+        }
+        if (value instanceof Number) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        return null;
+    }
+
+    /**
+     * Returns a representation of a value in which equal numbers are equal, whatever their type and scale.
+     */
+    private static Object normalize(Object value) {
+        BigDecimal number = toDecimal(value);
+        if (number == null) {
+            return value;
+        }
+        return number.signum() == 0 ? BigDecimal.ZERO : number.stripTrailingZeros();
+    }
+
+    /**
+     * Compiles the schemas of a document. Schemas are compiled once, even when they are referenced from several places
+     * or recursively.
+     */
+    static final class Compiler {
+        private final Map<String, Schema> components;
+        private final Map<Schema, SchemaValidator> compiled = new IdentityHashMap<>();
+        private final SchemaGraph graph;
+
+        Compiler(Map<String, Schema> components) {
+            this.components = components == null ? new HashMap<>() : components;
+            this.graph = new SchemaGraph(this.components);
+        }
+
+        /**
+         * Compiles a schema.
+         *
+         * @param schema
+         *            the schema, may be null
+         * @return the validator, {@link SchemaValidator#ANY} if the schema is null or is an unresolvable reference
+         * @throws IllegalArgumentException
+         *             if a pattern of the schema is not a valid regular expression
+         */
+        SchemaValidator compile(Schema schema) {
+            if (schema == null) {
+                return ANY;
+            }
+            SchemaValidator validator = compiled.get(schema);
+            if (validator != null) {
+                return validator;
+            }
+            String ref = schema.getRef();
+            if (ref != null) {
+                Schema target =
+                        ref.startsWith(SCHEMAS_REF) ? components.get(ref.substring(SCHEMAS_REF.length())) : null;
+                // Stands for the target while it is compiled, so that the reference can occur within its own target
+                SchemaValidator reference = new SchemaValidator();
+                compiled.put(schema, reference);
+                validator = target == null ? ANY : compile(target);
+                // References which only refer to each other accept any value
+                reference.target = validator == reference ? ANY : validator;
+                compiled.put(schema, reference.target);
+                return reference.target;
+            }
+            validator = new SchemaValidator();
+            // Registered before the children are compiled, so that recursive schemas terminate
+            compiled.put(schema, validator);
+            validator.type = schema.getType();
+            validator.nullable = Boolean.TRUE.equals(schema.getNullable());
+            if (schema.getEnumeration() != null && !schema.getEnumeration().isEmpty()) {
+                validator.enumeration = new HashSet<>();
+                for (Object value : schema.getEnumeration()) {
+                    validator.enumeration.add(normalize(value));
+                }
+            }
+            validator.minimum = schema.getMinimum();
+            validator.exclusiveMinimum = Boolean.TRUE.equals(schema.getExclusiveMinimum());
+            validator.maximum = schema.getMaximum();
+            validator.exclusiveMaximum = Boolean.TRUE.equals(schema.getExclusiveMaximum());
+            validator.multipleOf = schema.getMultipleOf();
+            validator.minLength = schema.getMinLengthOrDefault(-1);
+            validator.maxLength = schema.getMaxLengthOrDefault(-1);
+            if (schema.getPattern() != null) {
+                try {
+                    validator.pattern = Pattern.compile(schema.getPattern());
+                } catch (PatternSyntaxException e) {
+                    throw new IllegalArgumentException("Invalid pattern: " + schema.getPattern(), e);
+                }
+            }
+            validator.minItems = schema.getMinItemsOrDefault(-1);
+            validator.maxItems = schema.getMaxItemsOrDefault(-1);
+            validator.uniqueItems = Boolean.TRUE.equals(schema.getUniqueItems());
+            if (schema.getItems() != null) {
+                validator.items = compile(schema.getItems());
+            }
+            validator.minProperties = schema.getMinPropertiesOrDefault(-1);
+            validator.maxProperties = schema.getMaxPropertiesOrDefault(-1);
+            List<String> requiredNames = new ArrayList<>();
+            if (schema.getRequired() != null) {
+                requiredNames.addAll(schema.getRequired());
+            }
+            if (schema.getProperties() != null && !schema.getProperties().isEmpty()) {
+                validator.properties = new HashMap<>();
+                for (Map.Entry<String, Schema> entry : schema.getProperties().entrySet()) {
+                    validator.properties.put(entry.getKey(), compile(entry.getValue()));
+                    if (isReadOnly(entry.getValue())) {
+                        // Read only properties are not sent in requests, even if they are required
+                        requiredNames.remove(entry.getKey());
+                    }
+                }
+            }
+            if (!requiredNames.isEmpty()) {
+                validator.required = requiredNames.toArray(new String[0]);
+            }
+            if (schema.getAdditionalPropertiesSchema() != null) {
+                validator.additionalProperties = compile(schema.getAdditionalPropertiesSchema());
+            } else if (Boolean.FALSE.equals(schema.getAdditionalPropertiesBoolean())) {
+                validator.additionalPropertiesAllowed = false;
+            }
+            validator.allOf = compileAll(schema.getAllOf());
+            validator.anyOf = compileAll(schema.getAnyOf());
+            validator.oneOf = compileAll(schema.getOneOf());
+            if (schema.getNot() != null) {
+                validator.not = compile(schema.getNot());
+            }
+            if ((validator.oneOf != null || validator.anyOf != null) && graph.getDiscriminator(schema) != null) {
+                validator.discriminator = graph.getDiscriminator(schema).getPropertyName();
+                validator.discriminatorMapping = new HashMap<>();
+                for (Map.Entry<String, Schema> entry : graph.getDiscriminatorMapping(schema).entrySet()) {
+                    validator.discriminatorMapping.put(entry.getKey(), compile(entry.getValue()));
+                }
+            }
+            return validator;
+        }
+
+        private SchemaValidator[] compileAll(List<Schema> schemas) {
+            if (schemas == null || schemas.isEmpty()) {
+                return null;
+            }
+            SchemaValidator[] validators = new SchemaValidator[schemas.size()];
+            for (int i = 0; i < validators.length; i++) {
+                validators[i] = compile(schemas.get(i));
+            }
+            return validators;
+        }
+
+        private boolean isReadOnly(Schema schema) {
+            Schema resolved = schema;
+            if (schema != null && schema.getRef() != null && schema.getRef().startsWith(SCHEMAS_REF)) {
+                resolved = components.get(schema.getRef().substring(SCHEMAS_REF.length()));
+            }
+            return resolved != null && Boolean.TRUE.equals(resolved.getReadOnly());
+        }
+    }
+}
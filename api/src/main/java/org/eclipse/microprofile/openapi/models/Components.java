@@ -18,6 +18,7 @@
 package org.eclipse.microprofile.openapi.models;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.eclipse.microprofile.openapi.models.callbacks.Callback;
 import org.eclipse.microprofile.openapi.models.examples.Example;
@@ -59,6 +60,35 @@ public interface Components extends Constructible, Extensible<Components> {
      **/
     Map<String, Schema> getSchemas();
 
+    /**
+     * Returns whether this Components has at least one schema. This is a convenience method for
+     * <code>getSchemas() != null &amp;&amp; !getSchemas().isEmpty()</code>, which implementations may override so that
+     * the map is not copied.
+     *
+     * @return true if the schemas property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasSchemas() {
+        Map<String, Schema> values = getSchemas();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each schema of this Components, in order. This is a convenience method for
+     * <code>getSchemas().forEach(action)</code>, which does nothing if the schemas property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each schema
+     * @since 3.2
+     */
+    default void forEachSchema(BiConsumer<String, Schema> action) {
+        Map<String, Schema> values = getSchemas();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets this Components' schemas property to the given Map containing keys and reusable schema objects.
      * 
@@ -91,6 +121,22 @@ public interface Components extends Constructible, Extensible<Components> {
      */
     Components addSchema(String key, Schema schema);
 
+    /**
+     * Adds all of the given schemas to this Components' list of schemas, in the iteration order of the map. This is
+     * equivalent to calling {@link #addSchema(String, Schema)} for each entry, which the default implementation does,
+     * but allows implementations to size their storage once for all of the added schemas.
+     *
+     * @param schemas
+     *            the reusable schema objects to add, keyed by name. null values will be rejected (implementation will
+     *            throw an exception) or ignored.
+     * @return the current Components object
+     * @since 3.2
+     */
+    default Components addSchemas(Map<String, Schema> schemas) {
+        schemas.forEach(this::addSchema);
+        return this;
+    }
+
     /**
      * Removes the given schema to this Components' list of schemas with the given string as its key.
      *
@@ -107,6 +153,35 @@ public interface Components extends Constructible, Extensible<Components> {
      **/
     Map<String, APIResponse> getResponses();
 
+    /**
+     * Returns whether this Components has at least one response. This is a convenience method for
+     * <code>getResponses() != null &amp;&amp; !getResponses().isEmpty()</code>, which implementations may override so
+     * that the map is not copied.
+     *
+     * @return true if the responses property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasResponses() {
+        Map<String, APIResponse> values = getResponses();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each response of this Components, in order. This is a convenience method for
+     * <code>getResponses().forEach(action)</code>, which does nothing if the responses property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each response
+     * @since 3.2
+     */
+    default void forEachResponse(BiConsumer<String, APIResponse> action) {
+        Map<String, APIResponse> values = getResponses();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets this Components' responses property to the given Map containing keys and reusable response objects.
      *
@@ -155,6 +230,35 @@ public interface Components extends Constructible, Extensible<Components> {
      **/
     Map<String, Parameter> getParameters();
 
+    /**
+     * Returns whether this Components has at least one parameter. This is a convenience method for
+     * <code>getParameters() != null &amp;&amp; !getParameters().isEmpty()</code>, which implementations may override so
+     * that the map is not copied.
+     *
+     * @return true if the parameters property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasParameters() {
+        Map<String, Parameter> values = getParameters();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each parameter of this Components, in order. This is a convenience method for
+     * <code>getParameters().forEach(action)</code>, which does nothing if the parameters property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each parameter
+     * @since 3.2
+     */
+    default void forEachParameter(BiConsumer<String, Parameter> action) {
+        Map<String, Parameter> values = getParameters();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets this Components' parameters property to the given Map containing keys and reusable parameter objects.
      *
@@ -203,6 +307,35 @@ public interface Components extends Constructible, Extensible<Components> {
      **/
     Map<String, Example> getExamples();
 
+    /**
+     * Returns whether this Components has at least one example. This is a convenience method for
+     * <code>getExamples() != null &amp;&amp; !getExamples().isEmpty()</code>, which implementations may override so
+     * that the map is not copied.
+     *
+     * @return true if the examples property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasExamples() {
+        Map<String, Example> values = getExamples();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each example of this Components, in order. This is a convenience method for
+     * <code>getExamples().forEach(action)</code>, which does nothing if the examples property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each example
+     * @since 3.2
+     */
+    default void forEachExample(BiConsumer<String, Example> action) {
+        Map<String, Example> values = getExamples();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets this Components' examples property to the given Map containing keys and reusable example objects.
      *
@@ -251,6 +384,35 @@ public interface Components extends Constructible, Extensible<Components> {
      **/
     Map<String, RequestBody> getRequestBodies();
 
+    /**
+     * Returns whether this Components has at least one request body. This is a convenience method for
+     * <code>getRequestBodies() != null &amp;&amp; !getRequestBodies().isEmpty()</code>, which implementations may
+     * override so that the map is not copied.
+     *
+     * @return true if the requestBodies property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasRequestBodies() {
+        Map<String, RequestBody> values = getRequestBodies();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each request body of this Components, in order. This is a convenience method for
+     * <code>getRequestBodies().forEach(action)</code>, which does nothing if the requestBodies property is not set, and
+     * which implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each request body
+     * @since 3.2
+     */
+    default void forEachRequestBody(BiConsumer<String, RequestBody> action) {
+        Map<String, RequestBody> values = getRequestBodies();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets this Components' requestBodies property to the given Map containing keys and reusable request body objects.
      *
@@ -298,6 +460,35 @@ public interface Components extends Constructible, Extensible<Components> {
      **/
     Map<String, Header> getHeaders();
 
+    /**
+     * Returns whether this Components has at least one header. This is a convenience method for
+     * <code>getHeaders() != null &amp;&amp; !getHeaders().isEmpty()</code>, which implementations may override so that
+     * the map is not copied.
+     *
+     * @return true if the headers property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasHeaders() {
+        Map<String, Header> values = getHeaders();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each header of this Components, in order. This is a convenience method for
+     * <code>getHeaders().forEach(action)</code>, which does nothing if the headers property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each header
+     * @since 3.2
+     */
+    default void forEachHeader(BiConsumer<String, Header> action) {
+        Map<String, Header> values = getHeaders();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets this Components' headers property to the given Map containing keys and reusable header objects.
      *
@@ -346,6 +537,35 @@ public interface Components extends Constructible, Extensible<Components> {
      **/
     Map<String, SecurityScheme> getSecuritySchemes();
 
+    /**
+     * Returns whether this Components has at least one security scheme. This is a convenience method for
+     * <code>getSecuritySchemes() != null &amp;&amp; !getSecuritySchemes().isEmpty()</code>, which implementations may
+     * override so that the map is not copied.
+     *
+     * @return true if the securitySchemes property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasSecuritySchemes() {
+        Map<String, SecurityScheme> values = getSecuritySchemes();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each security scheme of this Components, in order. This is a convenience method for
+     * <code>getSecuritySchemes().forEach(action)</code>, which does nothing if the securitySchemes property is not set,
+     * and which implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each security scheme
+     * @since 3.2
+     */
+    default void forEachSecurityScheme(BiConsumer<String, SecurityScheme> action) {
+        Map<String, SecurityScheme> values = getSecuritySchemes();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets this Components' securitySchemes property to the given Map containing keys and reusable security scheme
      * objects.
@@ -395,6 +615,35 @@ public interface Components extends Constructible, Extensible<Components> {
      **/
     Map<String, Link> getLinks();
 
+    /**
+     * Returns whether this Components has at least one link. This is a convenience method for
+     * <code>getLinks() != null &amp;&amp; !getLinks().isEmpty()</code>, which implementations may override so that the
+     * map is not copied.
+     *
+     * @return true if the links property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasLinks() {
+        Map<String, Link> values = getLinks();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each link of this Components, in order. This is a convenience method for
+     * <code>getLinks().forEach(action)</code>, which does nothing if the links property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each link
+     * @since 3.2
+     */
+    default void forEachLink(BiConsumer<String, Link> action) {
+        Map<String, Link> values = getLinks();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets this Components' links property to the given Map containing keys and reusable link objects.
      *
@@ -443,6 +692,35 @@ public interface Components extends Constructible, Extensible<Components> {
      **/
     Map<String, Callback> getCallbacks();
 
+    /**
+     * Returns whether this Components has at least one callback. This is a convenience method for
+     * <code>getCallbacks() != null &amp;&amp; !getCallbacks().isEmpty()</code>, which implementations may override so
+     * that the map is not copied.
+     *
+     * @return true if the callbacks property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasCallbacks() {
+        Map<String, Callback> values = getCallbacks();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each callback of this Components, in order. This is a convenience method for
+     * <code>getCallbacks().forEach(action)</code>, which does nothing if the callbacks property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each callback
+     * @since 3.2
+     */
+    default void forEachCallback(BiConsumer<String, Callback> action) {
+        Map<String, Callback> values = getCallbacks();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets this Components' callbacks property to the given Map containing keys and reusable callback objects.
      *
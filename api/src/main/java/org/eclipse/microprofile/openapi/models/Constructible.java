@@ -18,6 +18,16 @@ package org.eclipse.microprofile.openapi.models;
 
 /**
  * Marker interface for OpenAPI model objects that can be constructed by the OASFactory.
+ * <p>
+ * Implementations are not required to define {@code equals} and {@code hashCode} structurally. Use
+ * {@link org.eclipse.microprofile.openapi.OASEquivalence} to compare model trees by their content.
+ * <p>
+ * The list and map properties of a model object, such as the parameters or the callbacks of an operation, may be null
+ * until they are set or a first entry is added, so that implementations do not need to allocate empty collections for
+ * the many properties which remain unused. Callers must therefore accept both null and empty collections. The getters
+ * of these properties return copies; to check whether a property has entries or to iterate over them without copying,
+ * use the {@code hasXxx()} and {@code forEachXxx(...)} methods, e.g. {@link Operation#hasParameters()} and
+ * {@link Operation#forEachParameter(java.util.function.Consumer)}, which implementations are expected to override.
  * 
  * @see org.eclipse.microprofile.openapi.OASFactory
  */
@@ -18,12 +18,17 @@
 package org.eclipse.microprofile.openapi.models;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * The base interface for OpenAPI model objects that can contain extensions. Extensions contain data not required by the
  * specification and may or may not be supported by the tools you use.
  * <p>
  * The extensions property names are always prefixed by "x-".
+ * <p>
+ * Most model objects have no extensions or only a few. The {@link #getExtension(String)}, {@link #hasExtensions()} and
+ * {@link #forEachExtension(BiConsumer)} methods read the extensions without requiring a {@code Map} to be returned, so
+ * implementations may override them and store the extensions in a more compact form.
  */
 public interface Extensible<T extends Extensible<T>> {
 
@@ -34,6 +39,50 @@ public interface Extensible<T extends Extensible<T>> {
      **/
     Map<String, Object> getExtensions();
 
+    /**
+     * Returns the value of the extension with the given name. This is a convenience method for
+     * <code>getExtensions().get(name)</code>, which returns null if the extensions property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param name
+     *            the name of the extension. Always prefixed by "x-".
+     * @return the value of the extension, or null if this Extensible has no extension with the given name
+     * @since 3.2
+     */
+    default Object getExtension(String name) {
+        Map<String, Object> values = getExtensions();
+        return values == null ? null : values.get(name);
+    }
+
+    /**
+     * Returns whether this Extensible has at least one extension. This is a convenience method for
+     * <code>getExtensions() != null &amp;&amp; !getExtensions().isEmpty()</code>, which implementations may override so
+     * that the map is not copied.
+     *
+     * @return true if the extensions property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasExtensions() {
+        Map<String, Object> values = getExtensions();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each extension of this Extensible, in order. This is a convenience method for
+     * <code>getExtensions().forEach(action)</code>, which does nothing if the extensions property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each extension
+     * @since 3.2
+     */
+    default void forEachExtension(BiConsumer<String, Object> action) {
+        Map<String, Object> values = getExtensions();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets this Extensible's extensions property to the given map of extensions.
      * 
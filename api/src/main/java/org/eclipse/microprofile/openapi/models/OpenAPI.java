@@ -18,6 +18,7 @@
 package org.eclipse.microprofile.openapi.models;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.eclipse.microprofile.openapi.models.info.Info;
 import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
@@ -123,6 +124,35 @@ public interface OpenAPI extends Constructible, Extensible<OpenAPI> {
      **/
     List<Server> getServers();
 
+    /**
+     * Returns whether this OpenAPI has at least one server. This is a convenience method for
+     * <code>getServers() != null &amp;&amp; !getServers().isEmpty()</code>, which implementations may override so that
+     * the list is not copied.
+     *
+     * @return true if the servers property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasServers() {
+        List<Server> values = getServers();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each server of this OpenAPI, in order. This is a convenience method for
+     * <code>getServers().forEach(action)</code>, which does nothing if the servers property is not set, and which
+     * implementations may override so that the list is not copied.
+     *
+     * @param action
+     *            the action to perform for each server
+     * @since 3.2
+     */
+    default void forEachServer(Consumer<Server> action) {
+        List<Server> values = getServers();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets this OpenAPI instance's servers property to the given servers.
      *
@@ -167,6 +197,35 @@ public interface OpenAPI extends Constructible, Extensible<OpenAPI> {
      **/
     List<SecurityRequirement> getSecurity();
 
+    /**
+     * Returns whether this OpenAPI has at least one security requirement. This is a convenience method for
+     * <code>getSecurity() != null &amp;&amp; !getSecurity().isEmpty()</code>, which implementations may override so
+     * that the list is not copied.
+     *
+     * @return true if the security property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasSecurity() {
+        List<SecurityRequirement> values = getSecurity();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each security requirement of this OpenAPI, in order. This is a convenience method
+     * for <code>getSecurity().forEach(action)</code>, which does nothing if the security property is not set, and which
+     * implementations may override so that the list is not copied.
+     *
+     * @param action
+     *            the action to perform for each security requirement
+     * @since 3.2
+     */
+    default void forEachSecurityRequirement(Consumer<SecurityRequirement> action) {
+        List<SecurityRequirement> values = getSecurity();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets this OpenAPI instance's security property to the given list.
      *
@@ -212,6 +271,35 @@ public interface OpenAPI extends Constructible, Extensible<OpenAPI> {
 
     List<Tag> getTags();
 
+    /**
+     * Returns whether this OpenAPI has at least one tag. This is a convenience method for
+     * <code>getTags() != null &amp;&amp; !getTags().isEmpty()</code>, which implementations may override so that the
+     * list is not copied.
+     *
+     * @return true if the tags property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasTags() {
+        List<Tag> values = getTags();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each tag of this OpenAPI, in order. This is a convenience method for
+     * <code>getTags().forEach(action)</code>, which does nothing if the tags property is not set, and which
+     * implementations may override so that the list is not copied.
+     *
+     * @param action
+     *            the action to perform for each tag
+     * @since 3.2
+     */
+    default void forEachTag(Consumer<Tag> action) {
+        List<Tag> values = getTags();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets this OpenAPI instance's tags property to the given Tags.
      *
@@ -19,6 +19,8 @@ package org.eclipse.microprofile.openapi.models;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.eclipse.microprofile.openapi.models.callbacks.Callback;
 import org.eclipse.microprofile.openapi.models.parameters.Parameter;
@@ -45,6 +47,35 @@ public interface Operation extends Constructible, Extensible<Operation> {
      **/
     List<String> getTags();
 
+    /**
+     * Returns whether this Operation has at least one tag. This is a convenience method for
+     * <code>getTags() != null &amp;&amp; !getTags().isEmpty()</code>, which implementations may override so that the
+     * list is not copied.
+     *
+     * @return true if the tags property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasTags() {
+        List<String> values = getTags();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each tag of this Operation, in order. This is a convenience method for
+     * <code>getTags().forEach(action)</code>, which does nothing if the tags property is not set, and which
+     * implementations may override so that the list is not copied.
+     *
+     * @param action
+     *            the action to perform for each tag
+     * @since 3.2
+     */
+    default void forEachTag(Consumer<String> action) {
+        List<String> values = getTags();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets this Operation's tags property to the given tags.
      *
@@ -197,6 +228,35 @@ public interface Operation extends Constructible, Extensible<Operation> {
      **/
     List<Parameter> getParameters();
 
+    /**
+     * Returns whether this Operation has at least one parameter. This is a convenience method for
+     * <code>getParameters() != null &amp;&amp; !getParameters().isEmpty()</code>, which implementations may override so
+     * that the list is not copied.
+     *
+     * @return true if the parameters property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasParameters() {
+        List<Parameter> values = getParameters();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each parameter of this Operation, in order. This is a convenience method for
+     * <code>getParameters().forEach(action)</code>, which does nothing if the parameters property is not set, and which
+     * implementations may override so that the list is not copied.
+     *
+     * @param action
+     *            the action to perform for each parameter
+     * @since 3.2
+     */
+    default void forEachParameter(Consumer<Parameter> action) {
+        List<Parameter> values = getParameters();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets this Operation's parameters property to the given parameter list.
      *
@@ -295,6 +355,35 @@ public interface Operation extends Constructible, Extensible<Operation> {
      **/
     Map<String, Callback> getCallbacks();
 
+    /**
+     * Returns whether this Operation has at least one callback. This is a convenience method for
+     * <code>getCallbacks() != null &amp;&amp; !getCallbacks().isEmpty()</code>, which implementations may override so
+     * that the map is not copied.
+     *
+     * @return true if the callbacks property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasCallbacks() {
+        Map<String, Callback> values = getCallbacks();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each callback of this Operation, in order. This is a convenience method for
+     * <code>getCallbacks().forEach(action)</code>, which does nothing if the callbacks property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each callback
+     * @since 3.2
+     */
+    default void forEachCallback(BiConsumer<String, Callback> action) {
+        Map<String, Callback> values = getCallbacks();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets this Operation's callbacks property to the given map.
      *
@@ -371,6 +460,35 @@ public interface Operation extends Constructible, Extensible<Operation> {
      **/
     List<SecurityRequirement> getSecurity();
 
+    /**
+     * Returns whether this Operation has at least one security requirement. This is a convenience method for
+     * <code>getSecurity() != null &amp;&amp; !getSecurity().isEmpty()</code>, which implementations may override so
+     * that the list is not copied.
+     *
+     * @return true if the security property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasSecurity() {
+        List<SecurityRequirement> values = getSecurity();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each security requirement of this Operation, in order. This is a convenience method
+     * for <code>getSecurity().forEach(action)</code>, which does nothing if the security property is not set, and which
+     * implementations may override so that the list is not copied.
+     *
+     * @param action
+     *            the action to perform for each security requirement
+     * @since 3.2
+     */
+    default void forEachSecurityRequirement(Consumer<SecurityRequirement> action) {
+        List<SecurityRequirement> values = getSecurity();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets this Operation's security property to the given list.
      *
@@ -415,6 +533,35 @@ public interface Operation extends Constructible, Extensible<Operation> {
      **/
     List<Server> getServers();
 
+    /**
+     * Returns whether this Operation has at least one server. This is a convenience method for
+     * <code>getServers() != null &amp;&amp; !getServers().isEmpty()</code>, which implementations may override so that
+     * the list is not copied.
+     *
+     * @return true if the servers property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasServers() {
+        List<Server> values = getServers();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each server of this Operation, in order. This is a convenience method for
+     * <code>getServers().forEach(action)</code>, which does nothing if the servers property is not set, and which
+     * implementations may override so that the list is not copied.
+     *
+     * @param action
+     *            the action to perform for each server
+     * @since 3.2
+     */
+    default void forEachServer(Consumer<Server> action) {
+        List<Server> values = getServers();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets this Operation's servers property to the given list.
      *
@@ -19,6 +19,8 @@ package org.eclipse.microprofile.openapi.models;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.eclipse.microprofile.openapi.models.parameters.Parameter;
 import org.eclipse.microprofile.openapi.models.servers.Server;
@@ -331,6 +333,90 @@ public interface PathItem extends Constructible, Extensible<PathItem>, Reference
      */
     void setOperation(PathItem.HttpMethod httpMethod, Operation operation);
 
+    /**
+     * Returns the operation for a given http method.
+     *
+     * @param httpMethod
+     *            the http method
+     * @return the operation for the given http method, or null if there is none
+     * @since 3.2
+     */
+    default Operation getOperation(PathItem.HttpMethod httpMethod) {
+        switch (httpMethod) {
+            case POST :
+                return getPOST();
+            case GET :
+                return getGET();
+            case PUT :
+                return getPUT();
+            case PATCH :
+                return getPATCH();
+            case DELETE :
+                return getDELETE();
+            case HEAD :
+                return getHEAD();
+            case OPTIONS :
+                return getOPTIONS();
+            case TRACE :
+                return getTRACE();
+            default :
+                throw new IllegalArgumentException("Unknown http method: " + httpMethod);
+        }
+    }
+
+    /**
+     * Performs the given action for each operation of this path, in the order of the {@link PathItem.HttpMethod}
+     * constants. Unlike {@link #getOperations()}, this method does not create a map, so it is suitable for walking the
+     * operations of many paths, e.g. when filtering or serializing a document.
+     *
+     * @param action
+     *            the action to perform for each http method which has an operation
+     * @since 3.2
+     */
+    default void forEachOperation(BiConsumer<PathItem.HttpMethod, Operation> action) {
+        Operation operation;
+        if ((operation = getPOST()) != null) {
+            action.accept(HttpMethod.POST, operation);
+        }
+        if ((operation = getGET()) != null) {
+            action.accept(HttpMethod.GET, operation);
+        }
+        if ((operation = getPUT()) != null) {
+            action.accept(HttpMethod.PUT, operation);
+        }
+        if ((operation = getPATCH()) != null) {
+            action.accept(HttpMethod.PATCH, operation);
+        }
+        if ((operation = getDELETE()) != null) {
+            action.accept(HttpMethod.DELETE, operation);
+        }
+        if ((operation = getHEAD()) != null) {
+            action.accept(HttpMethod.HEAD, operation);
+        }
+        if ((operation = getOPTIONS()) != null) {
+            action.accept(HttpMethod.OPTIONS, operation);
+        }
+        if ((operation = getTRACE()) != null) {
+            action.accept(HttpMethod.TRACE, operation);
+        }
+    }
+
+    /**
+     * Returns a live view of the operations of this path, where the keys are {@link PathItem.HttpMethod} items.
+     * <p>
+     * Unlike the map returned by {@link #getOperations()}, the view reflects later changes to the operations of this
+     * path, and changes to the view (e.g. {@code put} or {@code remove}) are written through to this path. Like an
+     * {@link java.util.EnumMap EnumMap}, the view iterates in the order of the {@link PathItem.HttpMethod} constants
+     * and does not permit null keys or values. Implementations which store their operations in an {@code EnumMap} may
+     * return a view of that map.
+     *
+     * @return a live view of the operations of this path
+     * @since 3.2
+     */
+    default Map<PathItem.HttpMethod, Operation> getOperationsView() {
+        return new PathItemOperations(this);
+    }
+
     /**
      * Returns the servers property from a PathItem instance.
      *
@@ -338,6 +424,35 @@ public interface PathItem extends Constructible, Extensible<PathItem>, Reference
      **/
     List<Server> getServers();
 
+    /**
+     * Returns whether this PathItem has at least one server. This is a convenience method for
+     * <code>getServers() != null &amp;&amp; !getServers().isEmpty()</code>, which implementations may override so that
+     * the list is not copied.
+     *
+     * @return true if the servers property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasServers() {
+        List<Server> values = getServers();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each server of this PathItem, in order. This is a convenience method for
+     * <code>getServers().forEach(action)</code>, which does nothing if the servers property is not set, and which
+     * implementations may override so that the list is not copied.
+     *
+     * @param action
+     *            the action to perform for each server
+     * @since 3.2
+     */
+    default void forEachServer(Consumer<Server> action) {
+        List<Server> values = getServers();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets this PathItem's servers property to the given list.
      *
@@ -383,6 +498,35 @@ public interface PathItem extends Constructible, Extensible<PathItem>, Reference
      **/
     List<Parameter> getParameters();
 
+    /**
+     * Returns whether this PathItem has at least one parameter. This is a convenience method for
+     * <code>getParameters() != null &amp;&amp; !getParameters().isEmpty()</code>, which implementations may override so
+     * that the list is not copied.
+     *
+     * @return true if the parameters property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasParameters() {
+        List<Parameter> values = getParameters();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each parameter of this PathItem, in order. This is a convenience method for
+     * <code>getParameters().forEach(action)</code>, which does nothing if the parameters property is not set, and which
+     * implementations may override so that the list is not copied.
+     *
+     * @param action
+     *            the action to perform for each parameter
+     * @since 3.2
+     */
+    default void forEachParameter(Consumer<Parameter> action) {
+        List<Parameter> values = getParameters();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets this PathItem's parameters property to the given list.
      *
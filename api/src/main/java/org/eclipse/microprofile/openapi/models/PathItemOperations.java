@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.models;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.models.PathItem.HttpMethod;
+
+/**
+ * Live map view of the operations of a {@link PathItem}, see {@link PathItem#getOperationsView()}.
+ */
+final class PathItemOperations extends AbstractMap<HttpMethod, Operation> {
+
+    private static final HttpMethod[] METHODS = HttpMethod.values();
+
+    private final PathItem pathItem;
+
+    PathItemOperations(PathItem pathItem) {
+        this.pathItem = pathItem;
+    }
+
+    @Override
+    public Operation get(Object key) {
+        return key instanceof HttpMethod ? pathItem.getOperation((HttpMethod) key) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public Operation put(HttpMethod key, Operation value) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+        Operation previous = pathItem.getOperation(key);
+        pathItem.setOperation(key, value);
+        return previous;
+    }
+
+    @Override
+    public Operation remove(Object key) {
+        Operation previous = get(key);
+        if (previous != null) {
+            pathItem.setOperation((HttpMethod) key, null);
+        }
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (HttpMethod method : METHODS) {
+            if (pathItem.getOperation(method) != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public Set<Map.Entry<HttpMethod, Operation>> entrySet() {
+        return new AbstractSet<Map.Entry<HttpMethod, Operation>>() {
+            @Override
+            public Iterator<Map.Entry<HttpMethod, Operation>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return PathItemOperations.this.size();
+            }
+        };
+    }
+
+    /**
+     * Iterates over the http methods which have an operation, in declaration order.
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<HttpMethod, Operation>> {
+        private int next = advance(0);
+        private HttpMethod last;
+
+        @Override
+        public boolean hasNext() {
+            return next < METHODS.length;
+        }
+
+        @Override
+        public Map.Entry<HttpMethod, Operation> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = METHODS[next];
+            next = advance(next + 1);
+            return new Entry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            pathItem.setOperation(last, null);
+            last = null;
+        }
+
+        private int advance(int index) {
+            int i = index;
+            while (i < METHODS.length && pathItem.getOperation(METHODS[i]) == null) {
+                i++;
+            }
+            return i;
+        }
+    }
+
+    /**
+     * Entry which reads and writes the operation of the path item.
+     */
+    private final class Entry implements Map.Entry<HttpMethod, Operation> {
+        private final HttpMethod method;
+
+        Entry(HttpMethod method) {
+            this.method = method;
+        }
+
+        @Override
+        public HttpMethod getKey() {
+            return method;
+        }
+
+        @Override
+        public Operation getValue() {
+            return pathItem.getOperation(method);
+        }
+
+        @Override
+        public Operation setValue(Operation value) {
+            return put(method, value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+            return method == other.getKey() && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return method.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return method + "=" + getValue();
+        }
+    }
+}
@@ -18,6 +18,7 @@
 package org.eclipse.microprofile.openapi.models;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * Paths
@@ -45,6 +46,22 @@ public interface Paths extends Constructible, Extensible<Paths> {
      */
     Paths addPathItem(String name, PathItem item);
 
+    /**
+     * Adds all of the given path items to this Paths, in the iteration order of the map. This is equivalent to calling
+     * {@link #addPathItem(String, PathItem)} for each entry, which the default implementation does, but allows
+     * implementations to size their storage once for all of the added path items.
+     *
+     * @param items
+     *            the path items to add, keyed by path name. null values will be rejected (implementation will throw an
+     *            exception) or ignored.
+     * @return the current Paths instance
+     * @since 3.2
+     */
+    default Paths addPathItems(Map<String, PathItem> items) {
+        items.forEach(this::addPathItem);
+        return this;
+    }
+
     /**
      * Removes the given path item to this Paths.
      * 
@@ -60,6 +77,35 @@ public interface Paths extends Constructible, Extensible<Paths> {
      */
     Map<String, PathItem> getPathItems();
 
+    /**
+     * Returns whether this Paths has at least one path item. This is a convenience method for
+     * <code>getPathItems() != null &amp;&amp; !getPathItems().isEmpty()</code>, which implementations may override so
+     * that the map is not copied.
+     *
+     * @return true if the pathItems property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasPathItems() {
+        Map<String, PathItem> values = getPathItems();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each path item of this Paths, in order. This is a convenience method for
+     * <code>getPathItems().forEach(action)</code>, which does nothing if the pathItems property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each path item
+     * @since 3.2
+     */
+    default void forEachPathItem(BiConsumer<String, PathItem> action) {
+        Map<String, PathItem> values = getPathItems();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Set the path items map to this Paths
      * 
@@ -18,6 +18,7 @@
 package org.eclipse.microprofile.openapi.models.callbacks;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.Extensible;
@@ -69,6 +70,35 @@ public interface Callback extends Constructible, Extensible<Callback>, Reference
      */
     Map<String, PathItem> getPathItems();
 
+    /**
+     * Returns whether this Callback has at least one path item. This is a convenience method for
+     * <code>getPathItems() != null &amp;&amp; !getPathItems().isEmpty()</code>, which implementations may override so
+     * that the map is not copied.
+     *
+     * @return true if the pathItems property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasPathItems() {
+        Map<String, PathItem> values = getPathItems();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each path item of this Callback, in order. This is a convenience method for
+     * <code>getPathItems().forEach(action)</code>, which does nothing if the pathItems property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each path item
+     * @since 3.2
+     */
+    default void forEachPathItem(BiConsumer<String, PathItem> action) {
+        Map<String, PathItem> values = getPathItems();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Set the path items map to this Callback.
      * 
@@ -18,6 +18,7 @@
 package org.eclipse.microprofile.openapi.models.links;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.Extensible;
@@ -164,6 +165,35 @@ public interface Link extends Constructible, Extensible<Link>, Reference<Link> {
      **/
     Map<String, Object> getParameters();
 
+    /**
+     * Returns whether this Link has at least one parameter. This is a convenience method for
+     * <code>getParameters() != null &amp;&amp; !getParameters().isEmpty()</code>, which implementations may override so
+     * that the map is not copied.
+     *
+     * @return true if the parameters property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasParameters() {
+        Map<String, Object> values = getParameters();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each parameter of this Link, in order. This is a convenience method for
+     * <code>getParameters().forEach(action)</code>, which does nothing if the parameters property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each parameter
+     * @since 3.2
+     */
+    default void forEachParameter(BiConsumer<String, Object> action) {
+        Map<String, Object> values = getParameters();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets this Link's parameters property to the given map.
      *
@@ -18,6 +18,7 @@
 package org.eclipse.microprofile.openapi.models.media;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.eclipse.microprofile.openapi.models.Constructible;
 
@@ -57,6 +58,35 @@ public interface Content extends Constructible {
      */
     Map<String, MediaType> getMediaTypes();
 
+    /**
+     * Returns whether this Content has at least one media type. This is a convenience method for
+     * <code>getMediaTypes() != null &amp;&amp; !getMediaTypes().isEmpty()</code>, which implementations may override so
+     * that the map is not copied.
+     *
+     * @return true if the mediaTypes property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasMediaTypes() {
+        Map<String, MediaType> values = getMediaTypes();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each media type of this Content, in order. This is a convenience method for
+     * <code>getMediaTypes().forEach(action)</code>, which does nothing if the mediaTypes property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each media type
+     * @since 3.2
+     */
+    default void forEachMediaType(BiConsumer<String, MediaType> action) {
+        Map<String, MediaType> values = getMediaTypes();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Set the media types map to this Content
      * 
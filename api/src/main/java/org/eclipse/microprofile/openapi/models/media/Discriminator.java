@@ -18,6 +18,7 @@
 package org.eclipse.microprofile.openapi.models.media;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.eclipse.microprofile.openapi.models.Constructible;
 
@@ -102,6 +103,35 @@ public interface Discriminator extends Constructible {
      **/
     Map<String, String> getMapping();
 
+    /**
+     * Returns whether this Discriminator has at least one mapping. This is a convenience method for
+     * <code>getMapping() != null &amp;&amp; !getMapping().isEmpty()</code>, which implementations may override so that
+     * the map is not copied.
+     *
+     * @return true if the mapping property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasMapping() {
+        Map<String, String> values = getMapping();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each mapping of this Discriminator, in order. This is a convenience method for
+     * <code>getMapping().forEach(action)</code>, which does nothing if the mapping property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each mapping
+     * @since 3.2
+     */
+    default void forEachMapping(BiConsumer<String, String> action) {
+        Map<String, String> values = getMapping();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets this Discriminator's mapping property to the given map object.
      *
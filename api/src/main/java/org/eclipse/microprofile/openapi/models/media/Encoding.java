@@ -18,6 +18,7 @@
 package org.eclipse.microprofile.openapi.models.media;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.Extensible;
@@ -115,6 +116,35 @@ public interface Encoding extends Constructible, Extensible<Encoding> {
      **/
     Map<String, Header> getHeaders();
 
+    /**
+     * Returns whether this Encoding has at least one header. This is a convenience method for
+     * <code>getHeaders() != null &amp;&amp; !getHeaders().isEmpty()</code>, which implementations may override so that
+     * the map is not copied.
+     *
+     * @return true if the headers property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasHeaders() {
+        Map<String, Header> values = getHeaders();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each header of this Encoding, in order. This is a convenience method for
+     * <code>getHeaders().forEach(action)</code>, which does nothing if the headers property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each header
+     * @since 3.2
+     */
+    default void forEachHeader(BiConsumer<String, Header> action) {
+        Map<String, Header> values = getHeaders();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Headers property of an Encoding is a map that allows additional information to be provided as headers
      * <p>
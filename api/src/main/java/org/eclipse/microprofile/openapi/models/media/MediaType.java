@@ -18,6 +18,7 @@
 package org.eclipse.microprofile.openapi.models.media;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.Extensible;
@@ -68,6 +69,35 @@ public interface MediaType extends Constructible, Extensible<MediaType> {
      **/
     Map<String, Example> getExamples();
 
+    /**
+     * Returns whether this MediaType has at least one example. This is a convenience method for
+     * <code>getExamples() != null &amp;&amp; !getExamples().isEmpty()</code>, which implementations may override so
+     * that the map is not copied.
+     *
+     * @return true if the examples property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasExamples() {
+        Map<String, Example> values = getExamples();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each example of this MediaType, in order. This is a convenience method for
+     * <code>getExamples().forEach(action)</code>, which does nothing if the examples property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each example
+     * @since 3.2
+     */
+    default void forEachExample(BiConsumer<String, Example> action) {
+        Map<String, Example> values = getExamples();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets the examples field of a MediaType instance to the given map object. Each example object should match the
      * media type and specified schema if present. The example object is mutually exclusive of the examples object.
@@ -148,6 +178,35 @@ public interface MediaType extends Constructible, Extensible<MediaType> {
      **/
     Map<String, Encoding> getEncoding();
 
+    /**
+     * Returns whether this MediaType has at least one encoding. This is a convenience method for
+     * <code>getEncoding() != null &amp;&amp; !getEncoding().isEmpty()</code>, which implementations may override so
+     * that the map is not copied.
+     *
+     * @return true if the encoding property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasEncoding() {
+        Map<String, Encoding> values = getEncoding();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each encoding of this MediaType, in order. This is a convenience method for
+     * <code>getEncoding().forEach(action)</code>, which does nothing if the encoding property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each encoding
+     * @since 3.2
+     */
+    default void forEachEncoding(BiConsumer<String, Encoding> action) {
+        Map<String, Encoding> values = getEncoding();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets encoding property of a MediaType instance to the given map object.
      *
@@ -20,6 +20,9 @@ package org.eclipse.microprofile.openapi.models.media;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.Extensible;
@@ -150,6 +153,35 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
      */
     List<Object> getEnumeration();
 
+    /**
+     * Returns whether this Schema has at least one enumeration value. This is a convenience method for
+     * <code>getEnumeration() != null &amp;&amp; !getEnumeration().isEmpty()</code>, which implementations may override
+     * so that the list is not copied.
+     *
+     * @return true if the enumeration property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasEnumeration() {
+        List<Object> values = getEnumeration();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each enumeration value of this Schema, in order. This is a convenience method for
+     * <code>getEnumeration().forEach(action)</code>, which does nothing if the enumeration property is not set, and
+     * which implementations may override so that the list is not copied.
+     *
+     * @param action
+     *            the action to perform for each enumeration value
+     * @since 3.2
+     */
+    default void forEachEnumeration(Consumer<Object> action) {
+        List<Object> values = getEnumeration();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets the enumerated list of values allowed for objects defined by this Schema.
      *
@@ -164,7 +196,8 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
     }
 
     /**
-     * Adds an item of the appropriate type to the enumerated list of values allowed.
+     * Adds an item of the appropriate type to the enumerated list of values allowed. If the item is already one of the
+     * allowed values, the list is not modified.
      *
      * @param enumeration
      *            an object to add to the enumerated values
@@ -180,6 +213,24 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
      */
     void removeEnumeration(Object enumeration);
 
+    /**
+     * Returns whether the given item is one of the enumerated values allowed for objects defined by this Schema.
+     * <p>
+     * The default implementation searches the list returned by {@link #getEnumeration()}. Implementations are
+     * encouraged to keep the enumerated values in an insertion-ordered hashed collection, so that this method,
+     * {@link #addEnumeration(Object)} and {@link #removeEnumeration(Object)} run in constant time while the order of
+     * the values is preserved.
+     *
+     * @param enumeration
+     *            an object to look for in the enumerated values
+     * @return true if the item is one of the enumerated values
+     * @since 3.2
+     */
+    default boolean hasEnumeration(Object enumeration) {
+        List<Object> values = getEnumeration();
+        return values != null && values.contains(enumeration);
+    }
+
     /**
      * Returns the multipleOf property from this Schema instance.
      * <p>
@@ -209,6 +260,21 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns the multipleOf property from this Schema instance as a {@code long}, if it is an integral value.
+     * <p>
+     * The default implementation converts the value returned by {@link #getMultipleOf()}. Since most numeric
+     * constraints are small integers, implementations are encouraged to store integral values without a
+     * {@link BigDecimal} and to only create one when {@link #getMultipleOf()} is called.
+     *
+     * @return the value of the multipleOf property, or an empty value if the property is not set, is not an integer, or
+     *         does not fit in a {@code long}
+     * @since 3.2
+     */
+    default OptionalLong getMultipleOfAsLong() {
+        return SchemaNumbers.asLong(getMultipleOf());
+    }
+
     /**
      * Returns the maximum property from this Schema instance.
      *
@@ -236,6 +302,21 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns the maximum property from this Schema instance as a {@code long}, if it is an integral value.
+     * <p>
+     * The default implementation converts the value returned by {@link #getMaximum()}. Since most numeric constraints
+     * are small integers, implementations are encouraged to store integral values without a {@link BigDecimal} and to
+     * only create one when {@link #getMaximum()} is called.
+     *
+     * @return the value of the maximum property, or an empty value if the property is not set, is not an integer, or
+     *         does not fit in a {@code long}
+     * @since 3.2
+     */
+    default OptionalLong getMaximumAsLong() {
+        return SchemaNumbers.asLong(getMaximum());
+    }
+
     /**
      * Returns the exclusiveMaximum property from this Schema instance.
      *
@@ -292,6 +373,21 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns the minimum property from this Schema instance as a {@code long}, if it is an integral value.
+     * <p>
+     * The default implementation converts the value returned by {@link #getMinimum()}. Since most numeric constraints
+     * are small integers, implementations are encouraged to store integral values without a {@link BigDecimal} and to
+     * only create one when {@link #getMinimum()} is called.
+     *
+     * @return the value of the minimum property, or an empty value if the property is not set, is not an integer, or
+     *         does not fit in a {@code long}
+     * @since 3.2
+     */
+    default OptionalLong getMinimumAsLong() {
+        return SchemaNumbers.asLong(getMinimum());
+    }
+
     /**
      * Returns the exclusiveMinimum property from this Schema instance.
      *
@@ -350,6 +446,20 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns the maxLength property from this Schema instance as an {@code int}, without boxing when the
+     * implementation stores it as a primitive value.
+     *
+     * @param defaultValue
+     *            the value to return if the property is not set
+     * @return the value of the maxLength property, or the given default value if the property is not set
+     * @since 3.2
+     */
+    default int getMaxLengthOrDefault(int defaultValue) {
+        Integer value = getMaxLength();
+        return value == null ? defaultValue : value;
+    }
+
     /**
      * Returns the minLength property from this Schema instance.
      * <p>
@@ -379,6 +489,20 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns the minLength property from this Schema instance as an {@code int}, without boxing when the
+     * implementation stores it as a primitive value.
+     *
+     * @param defaultValue
+     *            the value to return if the property is not set
+     * @return the value of the minLength property, or the given default value if the property is not set
+     * @since 3.2
+     */
+    default int getMinLengthOrDefault(int defaultValue) {
+        Integer value = getMinLength();
+        return value == null ? defaultValue : value;
+    }
+
     /**
      * Returns the pattern property from this Schema instance.
      *
@@ -435,6 +559,20 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns the maxItems property from this Schema instance as an {@code int}, without boxing when the implementation
+     * stores it as a primitive value.
+     *
+     * @param defaultValue
+     *            the value to return if the property is not set
+     * @return the value of the maxItems property, or the given default value if the property is not set
+     * @since 3.2
+     */
+    default int getMaxItemsOrDefault(int defaultValue) {
+        Integer value = getMaxItems();
+        return value == null ? defaultValue : value;
+    }
+
     /**
      * Returns the minItems property from this Schema instance.
      * <p>
@@ -464,6 +602,20 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns the minItems property from this Schema instance as an {@code int}, without boxing when the implementation
+     * stores it as a primitive value.
+     *
+     * @param defaultValue
+     *            the value to return if the property is not set
+     * @return the value of the minItems property, or the given default value if the property is not set
+     * @since 3.2
+     */
+    default int getMinItemsOrDefault(int defaultValue) {
+        Integer value = getMinItems();
+        return value == null ? defaultValue : value;
+    }
+
     /**
      * Returns the uniqueItems property from this Schema instance.
      *
@@ -520,6 +672,20 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns the maxProperties property from this Schema instance as an {@code int}, without boxing when the
+     * implementation stores it as a primitive value.
+     *
+     * @param defaultValue
+     *            the value to return if the property is not set
+     * @return the value of the maxProperties property, or the given default value if the property is not set
+     * @since 3.2
+     */
+    default int getMaxPropertiesOrDefault(int defaultValue) {
+        Integer value = getMaxProperties();
+        return value == null ? defaultValue : value;
+    }
+
     /**
      * Returns the minProperties property from this Schema instance.
      * <p>
@@ -549,6 +715,20 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
         return this;
     }
 
+    /**
+     * Returns the minProperties property from this Schema instance as an {@code int}, without boxing when the
+     * implementation stores it as a primitive value.
+     *
+     * @param defaultValue
+     *            the value to return if the property is not set
+     * @return the value of the minProperties property, or the given default value if the property is not set
+     * @since 3.2
+     */
+    default int getMinPropertiesOrDefault(int defaultValue) {
+        Integer value = getMinProperties();
+        return value == null ? defaultValue : value;
+    }
+
     /**
      * Returns the required property from this Schema instance.
      *
@@ -556,6 +736,35 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
      **/
     List<String> getRequired();
 
+    /**
+     * Returns whether this Schema has at least one required property name. This is a convenience method for
+     * <code>getRequired() != null &amp;&amp; !getRequired().isEmpty()</code>, which implementations may override so
+     * that the list is not copied.
+     *
+     * @return true if the required property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasRequired() {
+        List<String> values = getRequired();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each required property name of this Schema, in order. This is a convenience method
+     * for <code>getRequired().forEach(action)</code>, which does nothing if the required property is not set, and which
+     * implementations may override so that the list is not copied.
+     *
+     * @param action
+     *            the action to perform for each required property name
+     * @since 3.2
+     */
+    default void forEachRequired(Consumer<String> action) {
+        List<String> values = getRequired();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets the list of fields required in objects defined by this Schema.
      *
@@ -577,7 +786,8 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
     }
 
     /**
-     * Adds the name of an item to the list of fields required in objects defined by this Schema.
+     * Adds the name of an item to the list of fields required in objects defined by this Schema. If the name is already
+     * in the list, the list is not modified.
      *
      * @param required
      *            the name of an item required in objects defined by this Schema instance
@@ -593,6 +803,24 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
      */
     void removeRequired(String required);
 
+    /**
+     * Returns whether the given name is in the list of fields required in objects defined by this Schema.
+     * <p>
+     * The default implementation searches the list returned by {@link #getRequired()}. Implementations are encouraged
+     * to keep the required names in an insertion-ordered hashed collection, so that this method,
+     * {@link #addRequired(String)} and {@link #removeRequired(String)} run in constant time while the order of the
+     * names is preserved.
+     *
+     * @param required
+     *            the name of an item
+     * @return true if the item is required in objects defined by this Schema instance
+     * @since 3.2
+     */
+    default boolean isRequired(String required) {
+        List<String> names = getRequired();
+        return names != null && names.contains(required);
+    }
+
     /**
      * Returns the type property from this Schema.
      *
@@ -657,6 +885,35 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
      **/
     Map<String, Schema> getProperties();
 
+    /**
+     * Returns whether this Schema has at least one property. This is a convenience method for
+     * <code>getProperties() != null &amp;&amp; !getProperties().isEmpty()</code>, which implementations may override so
+     * that the map is not copied.
+     *
+     * @return true if the properties property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasProperties() {
+        Map<String, Schema> values = getProperties();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each property of this Schema, in order. This is a convenience method for
+     * <code>getProperties().forEach(action)</code>, which does nothing if the properties property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each property
+     * @since 3.2
+     */
+    default void forEachProperty(BiConsumer<String, Schema> action) {
+        Map<String, Schema> values = getProperties();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets the properties of this Schema instance to the map provided.
      *
@@ -689,6 +946,22 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
      */
     Schema addProperty(String key, Schema propertySchema);
 
+    /**
+     * Adds all of the given Schema properties, in the iteration order of the map. This is equivalent to calling
+     * {@link #addProperty(String, Schema)} for each entry, which the default implementation does, but allows
+     * implementations to size their storage once for all of the added properties.
+     *
+     * @param properties
+     *            the Schemas which describe the properties, keyed by property name. null values will be rejected
+     *            (implementation will throw an exception) or ignored.
+     * @return the current Schema instance
+     * @since 3.2
+     */
+    default Schema addProperties(Map<String, Schema> properties) {
+        properties.forEach(this::addProperty);
+        return this;
+    }
+
     /**
      * Removes a Schema property of the provided name using the given schema.
      *
@@ -1067,6 +1340,35 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
      **/
     List<Schema> getAllOf();
 
+    /**
+     * Returns whether this Schema has at least one allOf schema. This is a convenience method for
+     * <code>getAllOf() != null &amp;&amp; !getAllOf().isEmpty()</code>, which implementations may override so that the
+     * list is not copied.
+     *
+     * @return true if the allOf property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasAllOf() {
+        List<Schema> values = getAllOf();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each allOf schema of this Schema, in order. This is a convenience method for
+     * <code>getAllOf().forEach(action)</code>, which does nothing if the allOf property is not set, and which
+     * implementations may override so that the list is not copied.
+     *
+     * @param action
+     *            the action to perform for each allOf schema
+     * @since 3.2
+     */
+    default void forEachAllOf(Consumer<Schema> action) {
+        List<Schema> values = getAllOf();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets the schemas used by the allOf property of this Schema.
      * 
@@ -1111,6 +1413,35 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
      **/
     List<Schema> getAnyOf();
 
+    /**
+     * Returns whether this Schema has at least one anyOf schema. This is a convenience method for
+     * <code>getAnyOf() != null &amp;&amp; !getAnyOf().isEmpty()</code>, which implementations may override so that the
+     * list is not copied.
+     *
+     * @return true if the anyOf property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasAnyOf() {
+        List<Schema> values = getAnyOf();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each anyOf schema of this Schema, in order. This is a convenience method for
+     * <code>getAnyOf().forEach(action)</code>, which does nothing if the anyOf property is not set, and which
+     * implementations may override so that the list is not copied.
+     *
+     * @param action
+     *            the action to perform for each anyOf schema
+     * @since 3.2
+     */
+    default void forEachAnyOf(Consumer<Schema> action) {
+        List<Schema> values = getAnyOf();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets the schemas used by the anyOf property of this Schema.
      * 
@@ -1155,6 +1486,35 @@ public interface Schema extends Extensible<Schema>, Constructible, Reference<Sch
      **/
     List<Schema> getOneOf();
 
+    /**
+     * Returns whether this Schema has at least one oneOf schema. This is a convenience method for
+     * <code>getOneOf() != null &amp;&amp; !getOneOf().isEmpty()</code>, which implementations may override so that the
+     * list is not copied.
+     *
+     * @return true if the oneOf property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasOneOf() {
+        List<Schema> values = getOneOf();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each oneOf schema of this Schema, in order. This is a convenience method for
+     * <code>getOneOf().forEach(action)</code>, which does nothing if the oneOf property is not set, and which
+     * implementations may override so that the list is not copied.
+     *
+     * @param action
+     *            the action to perform for each oneOf schema
+     * @since 3.2
+     */
+    default void forEachOneOf(Consumer<Schema> action) {
+        List<Schema> values = getOneOf();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets the schemas used by the oneOf property of this Schema.
      * 
@@ -0,0 +1,448 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.models.media;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Cycle safe traversal of the graph formed by schemas and their subschemas.
+ * <p>
+ * A schema refers to other schemas through its {@code properties}, {@code items}, {@code allOf}, {@code anyOf},
+ * {@code oneOf}, {@code not} and {@code additionalProperties}, and through {@code $ref} references to the schemas of
+ * the components. Inline schemas may refer to themselves, directly or not. The methods of this class walk the graph
+ * iteratively, visit each schema instance once, and resolve references to {@code #/components/schemas/} when the
+ * component schemas are given.
+ * <p>
+ * The flattened {@code allOf} view of each schema, i.e. the schema together with all the schemas it extends through
+ * {@code allOf}, is computed the first time it is requested and cached, so that composition hierarchies are resolved
+ * once. Likewise, the {@linkplain #getDiscriminatorMapping(Schema) discriminator mapping} of a polymorphic schema is
+ * resolved once to a lookup table from discriminator values to schemas. The caches are not aware of changes to the
+ * schemas; after modifying them, call {@link #clear()}.
+ * <p>
+ * Instances of this class are not thread safe, and are intended to be used for a single processing pass over a
+ * document.
+ *
+ * @since 3.2
+ */
+public final class SchemaGraph {
+
+    private static final String SCHEMAS_REF = "#/components/schemas/";
+
+    private final Map<String, Schema> components;
+    private final Map<Schema, List<Schema>> allOf = new IdentityHashMap<>();
+    private final Map<Schema, Map<String, Schema>> properties = new IdentityHashMap<>();
+    private final Map<Schema, Set<String>> required = new IdentityHashMap<>();
+    private final Map<Schema, Map<String, Schema>> discriminators = new IdentityHashMap<>();
+
+    /**
+     * Creates a schema graph which does not resolve references.
+     */
+    public SchemaGraph() {
+        this(null);
+    }
+
+    /**
+     * Creates a schema graph which resolves references to the given component schemas.
+     *
+     * @param components
+     *            the schemas of the components of the document, see
+     *            {@link org.eclipse.microprofile.openapi.models.Components#getSchemas()}, may be null
+     */
+    public SchemaGraph(Map<String, Schema> components) {
+        this.components = components == null ? Collections.emptyMap() : components;
+    }
+
+    /**
+     * Resolves a reference to a component schema. References to other references are followed.
+     *
+     * @param schema
+     *            a schema, may be null
+     * @return the referenced schema, or the given schema if it is not a reference or the reference cannot be resolved
+     */
+    public Schema resolve(Schema schema) {
+        Schema current = schema;
+        Set<Schema> seen = null;
+        while (current != null && current.getRef() != null && current.getRef().startsWith(SCHEMAS_REF)) {
+            Schema target = components.get(current.getRef().substring(SCHEMAS_REF.length()));
+            if (target == null) {
+                return current;
+            }
+            if (seen == null) {
+                seen = Collections.newSetFromMap(new IdentityHashMap<>());
+            }
+            if (!seen.add(current)) {
+                // A cycle of references, e.g. A -> B -> A
+                return current;
+            }
+            current = target;
+        }
+        return current;
+    }
+
+    /**
+     * Calls the given action once for each schema reachable from a schema, including the schema itself, in depth-first
+     * pre-order. References are resolved and the referenced schemas visited.
+     *
+     * @param root
+     *            the schema to start from, may be null
+     * @param action
+     *            the action to call for each schema
+     */
+    public void forEachSchema(Schema root, Consumer<Schema> action) {
+        Set<Schema> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Schema> stack = new ArrayDeque<>();
+        push(stack, root);
+        while (!stack.isEmpty()) {
+            Schema schema = stack.pop();
+            if (!visited.add(schema)) {
+                continue;
+            }
+            action.accept(schema);
+            List<Schema> children = children(schema);
+            for (int i = children.size() - 1; i >= 0; i--) {
+                push(stack, children.get(i));
+            }
+        }
+    }
+
+    /**
+     * Returns whether a schema is recursive, i.e. whether a cycle is reachable from it through subschemas or resolved
+     * references. Recursive schemas must be rendered with {@code $ref}s, and traversals which do not keep track of the
+     * visited schemas do not terminate on them.
+     *
+     * @param root
+     *            a schema, may be null
+     * @return true if a cycle is reachable from the schema
+     */
+    public boolean isRecursive(Schema root) {
+        Schema start = resolve(root);
+        if (start == null) {
+            return false;
+        }
+        // Iterative depth-first search: schemas on the current path are in progress, explored schemas are done
+        Map<Schema, Boolean> done = new IdentityHashMap<>();
+        Deque<Iterator<Schema>> path = new ArrayDeque<>();
+        Deque<Schema> schemas = new ArrayDeque<>();
+        done.put(start, Boolean.FALSE);
+        schemas.push(start);
+        path.push(children(start).iterator());
+        while (!path.isEmpty()) {
+            Iterator<Schema> iterator = path.peek();
+            if (!iterator.hasNext()) {
+                path.pop();
+                done.put(schemas.pop(), Boolean.TRUE);
+                continue;
+            }
+            Schema child = resolve(iterator.next());
+            if (child == null) {
+                continue;
+            }
+            Boolean state = done.get(child);
+            if (state == Boolean.FALSE) {
+                return true;
+            }
+            if (state == null) {
+                done.put(child, Boolean.FALSE);
+                schemas.push(child);
+                path.push(children(child).iterator());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the flattened {@code allOf} view of a schema: the schema itself followed by all the schemas it extends,
+     * directly or not, through {@code allOf}, with references resolved. Each schema occurs once, in breadth-first
+     * order: the schemas are ordered by the smallest number of {@code allOf} levels between them and the given schema,
+     * and the schemas of the same level in declaration order, so that the most derived schemas come first.
+     *
+     * @param schema
+     *            a schema
+     * @return an unmodifiable list of schemas, cached until {@link #clear()} is called
+     */
+    public List<Schema> getAllOf(Schema schema) {
+        Schema start = resolve(schema);
+        List<Schema> result = allOf.get(start);
+        if (result != null) {
+            return result;
+        }
+        Set<Schema> flattened = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Schema> ordered = new ArrayList<>();
+        Deque<Schema> queue = new ArrayDeque<>();
+        queue.add(start);
+        flattened.add(start);
+        while (!queue.isEmpty()) {
+            Schema current = queue.remove();
+            ordered.add(current);
+            List<Schema> parents = current.getAllOf();
+            if (parents != null) {
+                for (Schema parent : parents) {
+                    Schema resolved = resolve(parent);
+                    if (resolved != null && flattened.add(resolved)) {
+                        queue.add(resolved);
+                    }
+                }
+            }
+        }
+        result = Collections.unmodifiableList(ordered);
+        allOf.put(start, result);
+        return result;
+    }
+
+    /**
+     * Returns the properties of a schema together with the properties of all the schemas it extends through
+     * {@code allOf}. If several schemas define the same property, the definition of the most derived schema is
+     * returned, i.e. of the first schema in the order of {@link #getAllOf(Schema)}.
+     *
+     * @param schema
+     *            a schema
+     * @return an unmodifiable map of property names to schemas, cached until {@link #clear()} is called
+     */
+    public Map<String, Schema> getAllProperties(Schema schema) {
+        Schema start = resolve(schema);
+        Map<String, Schema> result = properties.get(start);
+        if (result == null) {
+            Map<String, Schema> merged = new LinkedHashMap<>();
+            for (Schema current : getAllOf(start)) {
+                if (current.getProperties() != null) {
+                    for (Map.Entry<String, Schema> entry : current.getProperties().entrySet()) {
+                        merged.putIfAbsent(entry.getKey(), entry.getValue());
+                    }
+                }
+            }
+            result = Collections.unmodifiableMap(merged);
+            properties.put(start, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the required properties of a schema together with the required properties of all the schemas it extends
+     * through {@code allOf}.
+     *
+     * @param schema
+     *            a schema
+     * @return an unmodifiable set of property names, cached until {@link #clear()} is called
+     */
+    public Set<String> getAllRequired(Schema schema) {
+        Schema start = resolve(schema);
+        Set<String> result = required.get(start);
+        if (result == null) {
+            Set<String> merged = new LinkedHashSet<>();
+            for (Schema current : getAllOf(start)) {
+                if (current.getRequired() != null) {
+                    merged.addAll(current.getRequired());
+                }
+            }
+            result = Collections.unmodifiableSet(merged);
+            required.put(start, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the discriminator of a schema, declared by the schema itself or by one of the schemas it extends through
+     * {@code allOf}.
+     *
+     * @param schema
+     *            a schema
+     * @return the discriminator of the most derived schema which declares one, i.e. of the first schema in the order of
+     *         {@link #getAllOf(Schema)}, or null if there is none
+     */
+    public Discriminator getDiscriminator(Schema schema) {
+        for (Schema current : getAllOf(schema)) {
+            if (current.getDiscriminator() != null && current.getDiscriminator().getPropertyName() != null) {
+                return current.getDiscriminator();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the lookup table from the values of the discriminator property of a polymorphic schema to the schemas of
+     * the payloads, with all references resolved. The table contains:
+     * <ul>
+     * <li>the explicit {@linkplain Discriminator#getMapping() mapping} of the discriminator, whose values are
+     * references or names of component schemas,</li>
+     * <li>the name of each component schema referenced by the {@code oneOf} or {@code anyOf} of the schema, unless the
+     * name is mapped explicitly,</li>
+     * <li>if the schema has no {@code oneOf} or {@code anyOf}, the name of each component schema which extends the
+     * schema declaring the discriminator through {@code allOf}, including that schema itself.</li>
+     * </ul>
+     *
+     * @param schema
+     *            a schema
+     * @return an unmodifiable map of discriminator values to schemas, empty if the schema has no discriminator, cached
+     *         until {@link #clear()} is called
+     */
+    public Map<String, Schema> getDiscriminatorMapping(Schema schema) {
+        Schema start = resolve(schema);
+        Map<String, Schema> result = discriminators.get(start);
+        if (result != null) {
+            return result;
+        }
+        Discriminator discriminator = getDiscriminator(start);
+        Map<String, Schema> mapping = new LinkedHashMap<>();
+        if (discriminator != null) {
+            if (discriminator.getMapping() != null) {
+                for (Map.Entry<String, String> entry : discriminator.getMapping().entrySet()) {
+                    Schema target = component(entry.getValue());
+                    if (target != null) {
+                        mapping.put(entry.getKey(), target);
+                    }
+                }
+            }
+            boolean composed = false;
+            for (List<Schema> alternatives : Arrays.asList(start.getOneOf(), start.getAnyOf())) {
+                if (alternatives == null) {
+                    continue;
+                }
+                for (Schema alternative : alternatives) {
+                    composed = true;
+                    String ref = alternative == null ? null : alternative.getRef();
+                    if (ref != null && ref.startsWith(SCHEMAS_REF)) {
+                        Schema target = resolve(alternative);
+                        if (target != alternative) {
+                            mapping.putIfAbsent(ref.substring(SCHEMAS_REF.length()), target);
+                        }
+                    }
+                }
+            }
+            if (!composed) {
+                Schema base = declaring(start, discriminator);
+                for (Map.Entry<String, Schema> entry : components.entrySet()) {
+                    Schema candidate = resolve(entry.getValue());
+                    if (candidate != null && extendsSchema(candidate, base)) {
+                        mapping.putIfAbsent(entry.getKey(), candidate);
+                    }
+                }
+            }
+        }
+        result = Collections.unmodifiableMap(mapping);
+        discriminators.put(start, result);
+        return result;
+    }
+
+    /**
+     * Returns the schema of a payload of a polymorphic schema, given the value of its discriminator property.
+     *
+     * @param schema
+     *            a schema
+     * @param value
+     *            the value of the discriminator property of the payload
+     * @return the schema of the payload, or null if the value is not mapped
+     * @see #getDiscriminatorMapping(Schema)
+     */
+    public Schema getDiscriminatorTarget(Schema schema, String value) {
+        return getDiscriminatorMapping(schema).get(value);
+    }
+
+    /**
+     * Discards the cached flattened views and discriminator mappings, e.g. after the schemas have been modified.
+     */
+    public void clear() {
+        allOf.clear();
+        properties.clear();
+        required.clear();
+        discriminators.clear();
+    }
+
+    /**
+     * Returns the schema, among the given schema and the schemas it extends, which declares the given discriminator.
+     */
+    private Schema declaring(Schema schema, Discriminator discriminator) {
+        for (Schema current : getAllOf(schema)) {
+            if (current.getDiscriminator() == discriminator) {
+                return current;
+            }
+        }
+        return schema;
+    }
+
+    private boolean extendsSchema(Schema schema, Schema base) {
+        for (Schema current : getAllOf(schema)) {
+            if (current == base) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Resolves the value of a discriminator mapping, either a reference or the name of a component schema.
+     */
+    private Schema component(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.startsWith(SCHEMAS_REF)) {
+            return resolve(components.get(value.substring(SCHEMAS_REF.length())));
+        }
+        if (value.indexOf('/') < 0 && value.indexOf('#') < 0) {
+            return resolve(components.get(value));
+        }
+        // References to other documents
+        return null;
+    }
+
+    private void push(Deque<Schema> stack, Schema schema) {
+        Schema resolved = resolve(schema);
+        if (resolved != null) {
+            stack.push(resolved);
+        }
+    }
+
+    /**
+     * Returns the direct subschemas of a schema, without resolving references.
+     */
+    private static List<Schema> children(Schema schema) {
+        List<Schema> children = new ArrayList<>();
+        if (schema.getProperties() != null) {
+            children.addAll(schema.getProperties().values());
+        }
+        addIfNotNull(children, schema.getItems());
+        addAll(children, schema.getAllOf());
+        addAll(children, schema.getAnyOf());
+        addAll(children, schema.getOneOf());
+        addIfNotNull(children, schema.getNot());
+        addIfNotNull(children, schema.getAdditionalPropertiesSchema());
+        return children;
+    }
+
+    private static void addAll(List<Schema> children, List<Schema> schemas) {
+        if (schemas != null) {
+            children.addAll(schemas);
+        }
+    }
+
+    private static void addIfNotNull(List<Schema> children, Schema schema) {
+        if (schema != null) {
+            children.add(schema);
+        }
+    }
+}
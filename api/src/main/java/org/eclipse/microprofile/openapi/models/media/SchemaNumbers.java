@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.openapi.models.media;
+
+import java.math.BigDecimal;
+import java.util.OptionalLong;
+
+/**
+ * Conversions of the numeric properties of a {@link Schema}.
+ */
+final class SchemaNumbers {
+
+    /**
+     * Any {@link BigDecimal} with a scale of 0 and fewer digits fits in a {@code long}.
+     */
+    private static final int LONG_DIGITS = 18;
+
+    private SchemaNumbers() {
+    }
+
+    /**
+     * Converts a number to a {@code long} if it is an integral value which fits in a {@code long}.
+     *
+     * @param value
+     *            a number, may be null
+     * @return the value as a {@code long}, or an empty value
+     */
+    static OptionalLong asLong(BigDecimal value) {
+        if (value == null) {
+            return OptionalLong.empty();
+        }
+        if (value.scale() == 0 && value.precision() <= LONG_DIGITS) {
+            return OptionalLong.of(value.longValue());
+        }
+        try {
+            return OptionalLong.of(value.longValueExact());
+        } catch (ArithmeticException e) {
+            // Fractional or too large
+            return OptionalLong.empty();
+        }
+    }
+}
@@ -18,6 +18,7 @@
 package org.eclipse.microprofile.openapi.models.parameters;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.Extensible;
@@ -369,6 +370,35 @@ public interface Parameter extends Constructible, Extensible<Parameter>, Referen
      **/
     Map<String, Example> getExamples();
 
+    /**
+     * Returns whether this Parameter has at least one example. This is a convenience method for
+     * <code>getExamples() != null &amp;&amp; !getExamples().isEmpty()</code>, which implementations may override so
+     * that the map is not copied.
+     *
+     * @return true if the examples property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasExamples() {
+        Map<String, Example> values = getExamples();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each example of this Parameter, in order. This is a convenience method for
+     * <code>getExamples().forEach(action)</code>, which does nothing if the examples property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each example
+     * @since 3.2
+     */
+    default void forEachExample(BiConsumer<String, Example> action) {
+        Map<String, Example> values = getExamples();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets the examples property of a Parameter instance to the given value. Each example should contain a value in the
      * correct format as specified in the parameter encoding. The examples object is mutually exclusive of the example
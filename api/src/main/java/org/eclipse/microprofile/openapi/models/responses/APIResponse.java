@@ -18,6 +18,7 @@
 package org.eclipse.microprofile.openapi.models.responses;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.Extensible;
@@ -72,6 +73,35 @@ public interface APIResponse extends Constructible, Extensible<APIResponse>, Ref
 
     Map<String, Header> getHeaders();
 
+    /**
+     * Returns whether this APIResponse has at least one header. This is a convenience method for
+     * <code>getHeaders() != null &amp;&amp; !getHeaders().isEmpty()</code>, which implementations may override so that
+     * the map is not copied.
+     *
+     * @return true if the headers property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasHeaders() {
+        Map<String, Header> values = getHeaders();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each header of this APIResponse, in order. This is a convenience method for
+     * <code>getHeaders().forEach(action)</code>, which does nothing if the headers property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each header
+     * @since 3.2
+     */
+    default void forEachHeader(BiConsumer<String, Header> action) {
+        Map<String, Header> values = getHeaders();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets the Headers for this instance of ApiResponse with the given map of Headers. The Header names are case
      * insensitive and if a Header is defined with the name 'Content-Type', then it will be ignored.
@@ -162,6 +192,35 @@ public interface APIResponse extends Constructible, Extensible<APIResponse>, Ref
 
     Map<String, Link> getLinks();
 
+    /**
+     * Returns whether this APIResponse has at least one link. This is a convenience method for
+     * <code>getLinks() != null &amp;&amp; !getLinks().isEmpty()</code>, which implementations may override so that the
+     * map is not copied.
+     *
+     * @return true if the links property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasLinks() {
+        Map<String, Link> values = getLinks();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each link of this APIResponse, in order. This is a convenience method for
+     * <code>getLinks().forEach(action)</code>, which does nothing if the links property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each link
+     * @since 3.2
+     */
+    default void forEachLink(BiConsumer<String, Link> action) {
+        Map<String, Link> values = getLinks();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Sets the operations links that can be followed from this instance of ApiResponse.
      *
@@ -18,6 +18,7 @@
 package org.eclipse.microprofile.openapi.models.responses;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.Extensible;
@@ -61,6 +62,35 @@ public interface APIResponses extends Constructible, Extensible<APIResponses> {
      */
     Map<String, APIResponse> getAPIResponses();
 
+    /**
+     * Returns whether this APIResponses has at least one response. This is a convenience method for
+     * <code>getAPIResponses() != null &amp;&amp; !getAPIResponses().isEmpty()</code>, which implementations may
+     * override so that the map is not copied.
+     *
+     * @return true if the APIResponses property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasAPIResponses() {
+        Map<String, APIResponse> values = getAPIResponses();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each response of this APIResponses, in order. This is a convenience method for
+     * <code>getAPIResponses().forEach(action)</code>, which does nothing if the APIResponses property is not set, and
+     * which implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each response
+     * @since 3.2
+     */
+    default void forEachAPIResponse(BiConsumer<String, APIResponse> action) {
+        Map<String, APIResponse> values = getAPIResponses();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Set the APIResponses map to this APIResponses
      * 
@@ -18,6 +18,7 @@
 package org.eclipse.microprofile.openapi.models.security;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.Extensible;
@@ -224,4 +225,33 @@ public interface OAuthFlow extends Constructible, Extensible<OAuthFlow> {
      **/
     Map<String, String> getScopes();
 
+    /**
+     * Returns whether this OAuthFlow has at least one scope. This is a convenience method for
+     * <code>getScopes() != null &amp;&amp; !getScopes().isEmpty()</code>, which implementations may override so that
+     * the map is not copied.
+     *
+     * @return true if the scopes property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasScopes() {
+        Map<String, String> values = getScopes();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each scope of this OAuthFlow, in order. This is a convenience method for
+     * <code>getScopes().forEach(action)</code>, which does nothing if the scopes property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each scope
+     * @since 3.2
+     */
+    default void forEachScope(BiConsumer<String, String> action) {
+        Map<String, String> values = getScopes();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
 }
\ No newline at end of file
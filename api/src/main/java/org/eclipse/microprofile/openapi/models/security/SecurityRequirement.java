@@ -19,6 +19,7 @@ package org.eclipse.microprofile.openapi.models.security;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.eclipse.microprofile.openapi.models.Constructible;
 
@@ -83,6 +84,35 @@ public interface SecurityRequirement extends Constructible {
      */
     Map<String, List<String>> getSchemes();
 
+    /**
+     * Returns whether this SecurityRequirement has at least one scheme. This is a convenience method for
+     * <code>getSchemes() != null &amp;&amp; !getSchemes().isEmpty()</code>, which implementations may override so that
+     * the map is not copied.
+     *
+     * @return true if the schemes property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasSchemes() {
+        Map<String, List<String>> values = getSchemes();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each scheme of this SecurityRequirement, in order. This is a convenience method for
+     * <code>getSchemes().forEach(action)</code>, which does nothing if the schemes property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each scheme
+     * @since 3.2
+     */
+    default void forEachScheme(BiConsumer<String, List<String>> action) {
+        Map<String, List<String>> values = getSchemes();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Set all security schemes to the SecurityRequirement instance. Keys are the name of security scheme declared in
      * the Components section of the OpenAPI document, values are a list of required scope - only valid when the defined
@@ -18,6 +18,7 @@
 package org.eclipse.microprofile.openapi.models.servers;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.Extensible;
@@ -131,6 +132,35 @@ public interface Server extends Constructible, Extensible<Server> {
      **/
     Map<String, ServerVariable> getVariables();
 
+    /**
+     * Returns whether this Server has at least one variable. This is a convenience method for
+     * <code>getVariables() != null &amp;&amp; !getVariables().isEmpty()</code>, which implementations may override so
+     * that the map is not copied.
+     *
+     * @return true if the variables property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasVariables() {
+        Map<String, ServerVariable> values = getVariables();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each variable of this Server, in order. This is a convenience method for
+     * <code>getVariables().forEach(action)</code>, which does nothing if the variables property is not set, and which
+     * implementations may override so that the map is not copied.
+     *
+     * @param action
+     *            the action to perform for the name and value of each variable
+     * @since 3.2
+     */
+    default void forEachVariable(BiConsumer<String, ServerVariable> action) {
+        Map<String, ServerVariable> values = getVariables();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * Adds the given server variable item to the Server's map of variables.
      *
@@ -18,6 +18,7 @@
 package org.eclipse.microprofile.openapi.models.servers;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.Extensible;
@@ -42,6 +43,35 @@ public interface ServerVariable extends Constructible, Extensible<ServerVariable
      **/
     List<String> getEnumeration();
 
+    /**
+     * Returns whether this ServerVariable has at least one enumeration value. This is a convenience method for
+     * <code>getEnumeration() != null &amp;&amp; !getEnumeration().isEmpty()</code>, which implementations may override
+     * so that the list is not copied.
+     *
+     * @return true if the enumeration property is set and not empty
+     * @since 3.2
+     */
+    default boolean hasEnumeration() {
+        List<String> values = getEnumeration();
+        return values != null && !values.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each enumeration value of this ServerVariable, in order. This is a convenience
+     * method for <code>getEnumeration().forEach(action)</code>, which does nothing if the enumeration property is not
+     * set, and which implementations may override so that the list is not copied.
+     *
+     * @param action
+     *            the action to perform for each enumeration value
+     * @since 3.2
+     */
+    default void forEachEnumeration(Consumer<String> action) {
+        List<String> values = getEnumeration();
+        if (values != null) {
+            values.forEach(action);
+        }
+    }
+
     /**
      * This method sets the enumeration property of ServerVariable instance to the given enumeration argument.
      * <p>
@@ -16,6 +16,6 @@
  * v3 documents from their JAX-RS applications.
  */
 
-@org.osgi.annotation.versioning.Version("2.1")
+@org.osgi.annotation.versioning.Version("2.2")
 @org.osgi.annotation.versioning.ProviderType
 package org.eclipse.microprofile.openapi;
\ No newline at end of file
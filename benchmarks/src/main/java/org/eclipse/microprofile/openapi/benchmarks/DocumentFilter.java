@@ -0,0 +1,216 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.headers.Header;
+import org.eclipse.microprofile.openapi.models.links.Link;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+
+/**
+ * Applies an {@link OASFilter} to a whole document, the way an implementation does at the end of the processing
+ * pipeline: every filterable element is passed to the filter after its descendants, elements for which the filter
+ * returns null are removed, and {@link OASFilter#filterOpenAPI(OpenAPI)} is called last.
+ * <p>
+ * Implementations have their own filter pass, so this class is a baseline which makes the cost of a filter comparable
+ * across implementations.
+ */
+final class DocumentFilter {
+
+    private final OASFilter filter;
+    private final Set<Object> inProgress = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private DocumentFilter(OASFilter filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * Filters the given document.
+     *
+     * @param filter
+     *            the filter
+     * @param document
+     *            the document, which is modified in place
+     */
+    static void apply(OASFilter filter, OpenAPI document) {
+        new DocumentFilter(filter).filterProperties(document);
+        filter.filterOpenAPI(document);
+    }
+
+    private void filterProperties(Object model) {
+        for (ModelAccess.Property property : ModelAccess.properties(model)) {
+            if (property.isExtensions()) {
+                continue;
+            }
+            Object value = property.get(model);
+            if (value == null) {
+                continue;
+            }
+            if (property.name() == null) {
+                filterEntries(model, property, (Map<?, ?>) value);
+            } else {
+                Object filtered = filterValue(value);
+                if (filtered != value) {
+                    property.set(model, filtered);
+                }
+            }
+        }
+    }
+
+    /**
+     * Filters the entries of a map property whose entries are properties of the model object, e.g. the path items of
+     * {@link org.eclipse.microprofile.openapi.models.Paths}. The changes are made through the add and remove methods of
+     * the model, since the map may be a copy, and the model object may be a map itself.
+     */
+    private void filterEntries(Object model, ModelAccess.Property property, Map<?, ?> map) {
+        for (Map.Entry<?, ?> entry : new LinkedHashMap<>(map).entrySet()) {
+            Object value = entry.getValue();
+            if (value == null) {
+                continue;
+            }
+            Object filtered = filterValue(value);
+            if (filtered == null) {
+                property.removeEntry(model, entry.getKey());
+            } else if (filtered != value) {
+                property.putEntry(model, entry.getKey(), filtered);
+            }
+        }
+    }
+
+    private Object filterValue(Object value) {
+        // Model objects first, since the model classes of some implementations implement Map
+        if (ModelAccess.properties(value) != null) {
+            return filterModel(value);
+        }
+        if (value instanceof Map) {
+            return filterMap((Map<?, ?>) value);
+        }
+        if (value instanceof List) {
+            return filterList((List<?>) value);
+        }
+        return value;
+    }
+
+    private Object filterMap(Map<?, ?> map) {
+        Map<Object, Object> result = null;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object value = entry.getValue();
+            Object filtered = value == null ? null : filterValue(value);
+            if (filtered != value && result == null) {
+                // Copy the entries before the first one which changed
+                result = new LinkedHashMap<>(map.size());
+                for (Map.Entry<?, ?> previous : map.entrySet()) {
+                    if (Objects.equals(previous.getKey(), entry.getKey())) {
+                        break;
+                    }
+                    result.put(previous.getKey(), previous.getValue());
+                }
+            }
+            if (result != null && filtered != null) {
+                result.put(entry.getKey(), filtered);
+            }
+        }
+        return result == null ? map : result;
+    }
+
+    private Object filterList(List<?> list) {
+        List<Object> result = null;
+        for (int i = 0; i < list.size(); i++) {
+            Object value = list.get(i);
+            Object filtered = value == null ? null : filterValue(value);
+            if (filtered != value && result == null) {
+                result = new ArrayList<>(list.subList(0, i));
+            }
+            if (result != null && filtered != null) {
+                result.add(filtered);
+            }
+        }
+        return result == null ? list : result;
+    }
+
+    private Object filterModel(Object model) {
+        if (!inProgress.add(model)) {
+            // A recursive structure, which is filtered when the outer invocation completes
+            return model;
+        }
+        try {
+            filterProperties(model);
+            return invokeFilter(model);
+        } finally {
+            inProgress.remove(model);
+        }
+    }
+
+    private Object invokeFilter(Object model) {
+        if (model instanceof PathItem) {
+            return filter.filterPathItem((PathItem) model);
+        }
+        if (model instanceof Operation) {
+            return filter.filterOperation((Operation) model);
+        }
+        if (model instanceof Parameter) {
+            return filter.filterParameter((Parameter) model);
+        }
+        if (model instanceof Header) {
+            return filter.filterHeader((Header) model);
+        }
+        if (model instanceof RequestBody) {
+            return filter.filterRequestBody((RequestBody) model);
+        }
+        if (model instanceof APIResponse) {
+            return filter.filterAPIResponse((APIResponse) model);
+        }
+        if (model instanceof Schema) {
+            return filter.filterSchema((Schema) model);
+        }
+        if (model instanceof SecurityScheme) {
+            return filter.filterSecurityScheme((SecurityScheme) model);
+        }
+        if (model instanceof Server) {
+            return filter.filterServer((Server) model);
+        }
+        if (model instanceof Tag) {
+            return filter.filterTag((Tag) model);
+        }
+        if (model instanceof Link) {
+            return filter.filterLink((Link) model);
+        }
+        if (model instanceof Callback) {
+            return filter.filterCallback((Callback) model);
+        }
+        return model;
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.benchmarks;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+/**
+ * Renders a document to JSON or YAML by streaming the properties of the model objects to a Jackson generator. Null
+ * properties and empty collections are omitted, but not empty model objects such as an empty security requirement.
+ */
+public final class DocumentWriter {
+
+    /**
+     * The format of a rendered document.
+     */
+    public enum Format {
+        JSON(new JsonFactory()),
+        YAML(new YAMLFactory());
+
+        private final JsonFactory factory;
+
+        Format(JsonFactory factory) {
+            this.factory = factory;
+        }
+    }
+
+    private DocumentWriter() {
+    }
+
+    /**
+     * Renders the given document.
+     *
+     * @param document
+     *            the document
+     * @param format
+     *            the format
+     * @return the rendered document
+     */
+    public static String write(OpenAPI document, Format format) {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = format.factory.createGenerator(writer)) {
+            writeValue(generator, document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    private static void writeValue(JsonGenerator generator, Object value) throws IOException {
+        if (value instanceof String) {
+            generator.writeString((String) value);
+        } else if (value instanceof Boolean) {
+            generator.writeBoolean((Boolean) value);
+        } else if (value instanceof BigDecimal) {
+            generator.writeNumber((BigDecimal) value);
+        } else if (value instanceof BigInteger) {
+            generator.writeNumber((BigInteger) value);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short) {
+            generator.writeNumber(((Number) value).longValue());
+        } else if (value instanceof Number) {
+            generator.writeNumber(((Number) value).doubleValue());
+        } else if (ModelAccess.properties(value) != null) {
+            // Before maps, since the model classes of some implementations implement Map
+            writeModel(generator, value);
+        } else if (value instanceof Map) {
+            generator.writeStartObject();
+            writeEntries(generator, (Map<?, ?>) value);
+            generator.writeEndObject();
+        } else if (value instanceof Collection) {
+            generator.writeStartArray();
+            for (Object item : (Collection<?>) value) {
+                writeValue(generator, item);
+            }
+            generator.writeEndArray();
+        } else {
+            // Enums and other leaf values
+            generator.writeString(String.valueOf(value));
+        }
+    }
+
+    private static void writeModel(JsonGenerator generator, Object model) throws IOException {
+        generator.writeStartObject();
+        for (ModelAccess.Property property : ModelAccess.properties(model)) {
+            Object value = property.get(model);
+            if (isEmpty(value)) {
+                continue;
+            }
+            if (property.name() == null) {
+                writeEntries(generator, (Map<?, ?>) value);
+            } else {
+                generator.writeFieldName(property.name());
+                writeValue(generator, value);
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeEntries(JsonGenerator generator, Map<?, ?> map) throws IOException {
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (entry.getValue() != null) {
+                generator.writeFieldName(String.valueOf(entry.getKey()));
+                writeValue(generator, entry.getValue());
+            }
+        }
+    }
+
+    private static boolean isEmpty(Object value) {
+        return value == null
+                || (ModelAccess.properties(value) == null && value instanceof Map && ((Map<?, ?>) value).isEmpty())
+                || (value instanceof Collection && ((Collection<?>) value).isEmpty());
+    }
+}
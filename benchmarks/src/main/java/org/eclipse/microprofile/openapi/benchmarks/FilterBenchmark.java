@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.filter.AirlinesOASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a full filter pass with the TCK's {@link AirlinesOASFilter} and with a filter which keeps every element, so
+ * that the cost of the filter methods can be told apart from the cost of the traversal.
+ * <p>
+ * Filters modify the document, so a new document is generated before each invocation. This is excluded from the
+ * measurement, but limits the precision for small documents.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FilterBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int resources;
+
+    private final OASFilter airlinesFilter = new AirlinesOASFilter();
+    private final OASFilter identityFilter = new OASFilter() {
+    };
+    private OpenAPI document;
+
+    @Setup(Level.Trial)
+    public void install() {
+        Implementation.install();
+    }
+
+    @Setup(Level.Invocation)
+    public void createDocument() {
+        document = SyntheticDocument.create(resources);
+    }
+
+    @Benchmark
+    public OpenAPI airlinesFilter() {
+        DocumentFilter.apply(airlinesFilter, document);
+        return document;
+    }
+
+    @Benchmark
+    public OpenAPI identityFilter() {
+        DocumentFilter.apply(identityFilter, document);
+        return document;
+    }
+}
@@ -0,0 +1,243 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.benchmarks;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.openapi.OASSchemaDeduplicator;
+import org.eclipse.microprofile.openapi.OASStringPool;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.reader.MyOASModelReaderImpl;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Measures the heap retained by processed documents: the final {@link OpenAPI} tree, the same tree after its strings
+ * are pooled with {@link OASStringPool} or its schemas are deduplicated with {@link OASSchemaDeduplicator}, and the
+ * rendered JSON and YAML documents which an implementation keeps to serve the OpenAPI endpoint. The retained sizes are
+ * computed with JOL, by walking the object graph.
+ * <p>
+ * The documents are the document of the TCK's {@link MyOASModelReaderImpl}, the same document extended with synthetic
+ * resources, and synthetic documents (see {@link SyntheticDocument}). For each document, the harness reports the number
+ * of bytes retained per operation by the tree and the rendered documents, and fails if it exceeds
+ * {@value #MAX_BYTES_PER_OPERATION_PROPERTY} or regresses by more than {@value #TOLERANCE_PROPERTY} against the
+ * baseline file given by {@value #BASELINE_PROPERTY}. The generated applications of the TCK {@code scale} group are not
+ * measured, since their documents are built by annotation scanning.
+ * <p>
+ * This is not a JMH benchmark, run it with:
+ *
+ * <pre>
+ * java -cp benchmarks.jar:&lt;implementation class path&gt; org.eclipse.microprofile.openapi.benchmarks.FootprintHarness
+ * </pre>
+ */
+public final class FootprintHarness {
+
+    /**
+     * The system property which holds the comma separated numbers of synthetic resources, default {@code 100,1000}.
+     */
+    static final String RESOURCES_PROPERTY = "mp.openapi.benchmarks.footprint.resources";
+
+    /**
+     * The system property which holds the maximum number of bytes retained per operation, if any.
+     */
+    static final String MAX_BYTES_PER_OPERATION_PROPERTY = "mp.openapi.benchmarks.footprint.maxBytesPerOperation";
+
+    /**
+     * The system property which holds the path of the baseline file, if any.
+     */
+    static final String BASELINE_PROPERTY = "mp.openapi.benchmarks.footprint.baseline";
+
+    /**
+     * The system property which holds the accepted relative increase over the baseline, default {@code 0.1}.
+     */
+    static final String TOLERANCE_PROPERTY = "mp.openapi.benchmarks.footprint.tolerance";
+
+    /**
+     * The system property which, if {@code true}, writes the measurements to the baseline file instead of comparing
+     * them.
+     */
+    static final String UPDATE_BASELINE_PROPERTY = "mp.openapi.benchmarks.footprint.updateBaseline";
+
+    private FootprintHarness() {
+    }
+
+    /**
+     * Runs the harness and exits with status 1 if the retained size per operation of a document regressed.
+     *
+     * @param args
+     *            ignored
+     * @throws IOException
+     *             if the baseline file cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        Implementation.install();
+        List<Measurement> measurements = new ArrayList<>();
+        for (Workload workload : workloads()) {
+            measurements.add(measure(workload));
+        }
+
+        System.out.println(String.format(Locale.ROOT, "%-16s %10s %12s %12s %12s %12s %12s %10s", "document",
+                "operations", "tree", "pooled", "deduplicated", "json", "yaml", "bytes/op"));
+        for (Measurement m : measurements) {
+            System.out.println(String.format(Locale.ROOT, "%-16s %10d %12d %12d %12d %12d %12d %10d", m.name,
+                    m.operations, m.tree, m.pooled, m.deduplicated, m.json, m.yaml, m.bytesPerOperation()));
+        }
+
+        List<String> failures = check(measurements);
+        for (String failure : failures) {
+            System.out.println("FAILED: " + failure);
+        }
+        if (!failures.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    private static List<Workload> workloads() {
+        MyOASModelReaderImpl reader = new MyOASModelReaderImpl();
+        List<Workload> workloads = new ArrayList<>();
+        workloads.add(new Workload("reader", reader::buildModel));
+        for (String value : System.getProperty(RESOURCES_PROPERTY, "100,1000").split(",")) {
+            int resources = Integer.parseInt(value.trim());
+            workloads.add(new Workload("reader+" + resources,
+                    () -> SyntheticDocument.extend(reader.buildModel(), resources)));
+            workloads.add(new Workload("synthetic-" + resources, () -> SyntheticDocument.create(resources)));
+        }
+        return workloads;
+    }
+
+    private static Measurement measure(Workload workload) {
+        OpenAPI document = workload.document.get();
+        Measurement m = new Measurement(workload.name);
+        m.operations = operations(document);
+        m.tree = retainedSize(document);
+        m.json = retainedSize(DocumentWriter.write(document, DocumentWriter.Format.JSON));
+        m.yaml = retainedSize(DocumentWriter.write(document, DocumentWriter.Format.YAML));
+
+        OpenAPI pooled = workload.document.get();
+        new OASStringPool().internAll(pooled);
+        m.pooled = retainedSize(pooled);
+
+        OpenAPI deduplicated = workload.document.get();
+        OASSchemaDeduplicator.deduplicate(deduplicated, 0);
+        m.deduplicated = retainedSize(deduplicated);
+        return m;
+    }
+
+    private static long retainedSize(Object root) {
+        return GraphLayout.parseInstance(root).totalSize();
+    }
+
+    private static int operations(OpenAPI document) {
+        int operations = 0;
+        if (document.getPaths() != null && document.getPaths().getPathItems() != null) {
+            for (PathItem pathItem : document.getPaths().getPathItems().values()) {
+                operations += pathItem.getOperations().size();
+            }
+        }
+        return operations;
+    }
+
+    private static List<String> check(List<Measurement> measurements) throws IOException {
+        List<String> failures = new ArrayList<>();
+        Long max = Long.getLong(MAX_BYTES_PER_OPERATION_PROPERTY);
+        if (max != null) {
+            for (Measurement m : measurements) {
+                if (m.bytesPerOperation() > max) {
+                    failures.add(m.name + " retains " + m.bytesPerOperation() + " bytes per operation, more than "
+                            + max);
+                }
+            }
+        }
+
+        String baselineFile = System.getProperty(BASELINE_PROPERTY);
+        if (baselineFile == null) {
+            return failures;
+        }
+        Path path = Paths.get(baselineFile);
+        Properties baseline = new Properties();
+        if (Boolean.getBoolean(UPDATE_BASELINE_PROPERTY)) {
+            for (Measurement m : measurements) {
+                baseline.setProperty(m.name, Long.toString(m.bytesPerOperation()));
+            }
+            try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                baseline.store(writer, "Bytes retained per operation");
+            }
+            System.out.println("Baseline written to " + path);
+            return failures;
+        }
+
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            baseline.load(reader);
+        }
+        double tolerance = Double.parseDouble(System.getProperty(TOLERANCE_PROPERTY, "0.1"));
+        for (Measurement m : measurements) {
+            String expected = baseline.getProperty(m.name);
+            if (expected == null) {
+                continue;
+            }
+            long limit = (long) (Long.parseLong(expected) * (1 + tolerance));
+            if (m.bytesPerOperation() > limit) {
+                failures.add(m.name + " retains " + m.bytesPerOperation() + " bytes per operation, the baseline is "
+                        + expected);
+            }
+        }
+        return failures;
+    }
+
+    private static final class Workload {
+        private final String name;
+        private final Supplier<OpenAPI> document;
+
+        Workload(String name, Supplier<OpenAPI> document) {
+            this.name = name;
+            this.document = document;
+        }
+    }
+
+    private static final class Measurement {
+        private final String name;
+        private int operations;
+        private long tree;
+        private long pooled;
+        private long deduplicated;
+        private long json;
+        private long yaml;
+
+        Measurement(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Returns the bytes retained per operation by the tree and the rendered documents, which are what an
+         * implementation keeps after startup.
+         */
+        long bytesPerOperation() {
+            return operations == 0 ? 0 : (tree + json + yaml) / operations;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.benchmarks;
+
+import org.eclipse.microprofile.openapi.spi.OASFactoryResolver;
+
+/**
+ * Selects the implementation which is benchmarked. By default, the {@link OASFactoryResolver} is found with the
+ * {@link java.util.ServiceLoader}, so any implementation on the class path is used. The
+ * {@value #RESOLVER_PROPERTY} system property selects a resolver class explicitly.
+ */
+final class Implementation {
+
+    /**
+     * The system property which holds the fully qualified name of the {@link OASFactoryResolver} to use.
+     */
+    static final String RESOLVER_PROPERTY = "mp.openapi.benchmarks.resolver";
+
+    private Implementation() {
+    }
+
+    /**
+     * Installs the selected resolver, if any, and checks that a resolver is available.
+     *
+     * @throws IllegalStateException
+     *             if no resolver is found or the selected resolver cannot be created
+     */
+    static void install() {
+        String name = System.getProperty(RESOLVER_PROPERTY);
+        if (name != null) {
+            try {
+                Class<?> type = Class.forName(name, true, Thread.currentThread().getContextClassLoader());
+                OASFactoryResolver.setInstance((OASFactoryResolver) type.getDeclaredConstructor().newInstance());
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                throw new IllegalStateException("Unable to create the OASFactoryResolver " + name, e);
+            }
+        }
+        OASFactoryResolver.instance();
+    }
+}
@@ -0,0 +1,289 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.benchmarks;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.microprofile.openapi.models.Constructible;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.responses.APIResponses;
+import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
+
+/**
+ * Implementation independent access to the properties of model objects, built from the getter and setter methods of
+ * the model interfaces. This lets the benchmarks filter and write the model classes of any vendor.
+ */
+final class ModelAccess {
+
+    private static final String MODELS_PACKAGE = "org.eclipse.microprofile.openapi.models";
+
+    private static final ClassValue<Property[]> PROPERTIES = new ClassValue<Property[]>() {
+        @Override
+        protected Property[] computeValue(Class<?> type) {
+            Class<?> model = Constructible.class.isAssignableFrom(type) ? modelInterface(type) : null;
+            return model == null ? null : properties(model);
+        }
+    };
+
+    private ModelAccess() {
+    }
+
+    /**
+     * Returns the properties of a model object, sorted by name, followed by the flattened maps and the extensions.
+     *
+     * @param value
+     *            any value
+     * @return the properties, or null if the value is not a model object
+     */
+    static Property[] properties(Object value) {
+        return value == null ? null : PROPERTIES.get(value.getClass());
+    }
+
+    private static Class<?> modelInterface(Class<?> type) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            for (Class<?> i : c.getInterfaces()) {
+                Class<?> model = findModelInterface(i);
+                if (model != null) {
+                    return model;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Class<?> findModelInterface(Class<?> type) {
+        if (type != Constructible.class && Constructible.class.isAssignableFrom(type)
+                && type.getName().startsWith(MODELS_PACKAGE)) {
+            return type;
+        }
+        for (Class<?> i : type.getInterfaces()) {
+            Class<?> model = findModelInterface(i);
+            if (model != null) {
+                return model;
+            }
+        }
+        return null;
+    }
+
+    private static Property[] properties(Class<?> model) {
+        List<Property> properties = new ArrayList<>();
+        List<Property> maps = new ArrayList<>();
+        Property extensions = null;
+        for (Method getter : model.getMethods()) {
+            String name = getter.getName();
+            if (!name.startsWith("get") || name.length() == 3 || getter.getParameterCount() != 0
+                    || getter.isDefault() || Modifier.isStatic(getter.getModifiers())) {
+                continue;
+            }
+            Method setter = setter(model, "set" + name.substring(3));
+            if (setter == null) {
+                continue;
+            }
+            String entry = flattenedEntry(model, name);
+            if (name.equals("getExtensions")) {
+                extensions = new Property(null, getter, setter, true);
+            } else if (entry != null) {
+                Property map = new Property(null, getter, setter, false);
+                map.adder = adder(model, "add" + entry, valueType(getter));
+                map.remover = setter(model, "remove" + entry);
+                maps.add(map);
+            } else {
+                String property = propertyName(model, name);
+                if (property != null) {
+                    properties.add(new Property(property, getter, setter, false));
+                }
+            }
+        }
+        properties.sort(Comparator.comparing((Property p) -> p.name).thenComparing(p -> p.getter.getName()));
+        properties.addAll(maps);
+        if (extensions != null) {
+            properties.add(extensions);
+        }
+        return properties.toArray(new Property[0]);
+    }
+
+    private static Method setter(Class<?> model, String name) {
+        for (Method m : model.getMethods()) {
+            if (m.getName().equals(name) && m.getParameterCount() == 1) {
+                return m;
+            }
+        }
+        return null;
+    }
+
+    private static Method adder(Class<?> model, String name, Class<?> valueType) {
+        for (Method m : model.getMethods()) {
+            if (m.getName().equals(name) && m.getParameterCount() == 2 && m.getParameterTypes()[0] == String.class
+                    && m.getParameterTypes()[1] == valueType) {
+                return m;
+            }
+        }
+        return null;
+    }
+
+    private static Class<?> valueType(Method getter) {
+        Type type = getter.getGenericReturnType();
+        if (type instanceof ParameterizedType) {
+            Type value = ((ParameterizedType) type).getActualTypeArguments()[1];
+            if (value instanceof ParameterizedType) {
+                value = ((ParameterizedType) value).getRawType();
+            }
+            if (value instanceof Class) {
+                return (Class<?>) value;
+            }
+        }
+        return Object.class;
+    }
+
+    /**
+     * Returns the name of the entries of a map property whose entries are written as properties of the model object,
+     * as used by the add and remove methods of the entries, e.g. {@code PathItem} for {@link Paths#getPathItems()}.
+     *
+     * @return the entry name, or null if the property is not such a map
+     */
+    private static String flattenedEntry(Class<?> model, String getter) {
+        if ((model == Paths.class || model == Callback.class) && getter.equals("getPathItems")) {
+            return "PathItem";
+        }
+        if (model == Content.class && getter.equals("getMediaTypes")) {
+            return "MediaType";
+        }
+        if (model == APIResponses.class && getter.equals("getAPIResponses")) {
+            return "APIResponse";
+        }
+        if (model == SecurityRequirement.class && getter.equals("getSchemes")) {
+            return "Scheme";
+        }
+        return null;
+    }
+
+    private static String propertyName(Class<?> model, String getter) {
+        String suffix = getter.substring(3);
+        if (model == PathItem.class && suffix.equals(suffix.toUpperCase(Locale.ROOT))) {
+            // getGET(), getPUT(), ...
+            return suffix.toLowerCase(Locale.ROOT);
+        }
+        switch (getter) {
+            case "getRef" :
+                return "$ref";
+            case "getEnumeration" :
+                return "enum";
+            case "getDefaultValue" :
+                // APIResponses.getDefaultValue() is a view of the "default" entry of the responses map
+                return model == APIResponses.class ? null : "default";
+            case "getAdditionalPropertiesSchema" :
+            case "getAdditionalPropertiesBoolean" :
+                return "additionalProperties";
+            default :
+                return Character.toLowerCase(suffix.charAt(0)) + suffix.substring(1);
+        }
+    }
+
+    /**
+     * A property of a model interface.
+     */
+    static final class Property {
+        private final String name;
+        private final Method getter;
+        private final Method setter;
+        private final boolean extensions;
+        private Method adder;
+        private Method remover;
+
+        Property(String name, Method getter, Method setter, boolean extensions) {
+            this.name = name;
+            this.getter = getter;
+            this.setter = setter;
+            this.extensions = extensions;
+        }
+
+        /**
+         * Returns the name of the property in an OpenAPI document.
+         *
+         * @return the property name, or null if the entries of this map property are written as properties of the
+         *         model object, as for the path items of {@link Paths}
+         */
+        String name() {
+            return name;
+        }
+
+        /**
+         * Returns whether this property holds the extensions of an
+         * {@link org.eclipse.microprofile.openapi.models.Extensible}.
+         *
+         * @return true for the extensions property
+         */
+        boolean isExtensions() {
+            return extensions;
+        }
+
+        Object get(Object model) {
+            return invoke(getter, model);
+        }
+
+        void set(Object model, Object value) {
+            invoke(setter, model, value);
+        }
+
+        /**
+         * Adds or replaces an entry of a map property whose entries are written as properties of the model object,
+         * through the add method of the model, e.g. {@link Paths#addPathItem(String, PathItem)}.
+         *
+         * @param model
+         *            the model object
+         * @param key
+         *            the key of the entry
+         * @param value
+         *            the new value of the entry
+         */
+        void putEntry(Object model, Object key, Object value) {
+            invoke(adder, model, key, value);
+        }
+
+        /**
+         * Removes an entry of a map property whose entries are written as properties of the model object, through the
+         * remove method of the model, e.g. {@link Paths#removePathItem(String)}.
+         *
+         * @param model
+         *            the model object
+         * @param key
+         *            the key of the entry
+         */
+        void removeEntry(Object model, Object key) {
+            invoke(remover, model, key);
+        }
+
+        private static Object invoke(Method method, Object target, Object... args) {
+            try {
+                return method.invoke(target, args);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Invocation of " + method + " failed", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.Constructible;
+import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.examples.Example;
+import org.eclipse.microprofile.openapi.models.headers.Header;
+import org.eclipse.microprofile.openapi.models.info.Contact;
+import org.eclipse.microprofile.openapi.models.info.Info;
+import org.eclipse.microprofile.openapi.models.info.License;
+import org.eclipse.microprofile.openapi.models.links.Link;
+import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.media.Discriminator;
+import org.eclipse.microprofile.openapi.models.media.Encoding;
+import org.eclipse.microprofile.openapi.models.media.MediaType;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.XML;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.responses.APIResponses;
+import org.eclipse.microprofile.openapi.models.security.OAuthFlow;
+import org.eclipse.microprofile.openapi.models.security.OAuthFlows;
+import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.eclipse.microprofile.openapi.models.servers.ServerVariable;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the creation of a single model object of each type, through {@link OASFactory#createObject(Class)} and
+ * through a {@link OASFactory.Builder}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelConstructionBenchmark {
+
+    private static final Map<String, Class<? extends Constructible>> TYPES = new HashMap<>();
+
+    static {
+        register(Components.class, ExternalDocumentation.class, OpenAPI.class, Operation.class, PathItem.class,
+                Paths.class, Callback.class, Example.class, Header.class, Contact.class, Info.class, License.class,
+                Link.class, Content.class, Discriminator.class, Encoding.class, MediaType.class, Schema.class,
+                XML.class, Parameter.class, RequestBody.class, APIResponse.class, APIResponses.class,
+                OAuthFlow.class, OAuthFlows.class, SecurityRequirement.class, SecurityScheme.class, Server.class,
+                ServerVariable.class, Tag.class);
+    }
+
+    @Param({"Components", "ExternalDocumentation", "OpenAPI", "Operation", "PathItem", "Paths", "Callback",
+            "Example", "Header", "Contact", "Info", "License", "Link", "Content", "Discriminator", "Encoding",
+            "MediaType", "Schema", "XML", "Parameter", "RequestBody", "APIResponse", "APIResponses", "OAuthFlow",
+            "OAuthFlows", "SecurityRequirement", "SecurityScheme", "Server", "ServerVariable", "Tag"})
+    public String type;
+
+    private Class<? extends Constructible> clazz;
+    private OASFactory.Builder builder;
+
+    @SafeVarargs
+    private static void register(Class<? extends Constructible>... types) {
+        for (Class<? extends Constructible> type : types) {
+            TYPES.put(type.getSimpleName(), type);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        Implementation.install();
+        clazz = TYPES.get(type);
+        if (clazz == null) {
+            throw new IllegalArgumentException("Unknown model type: " + type);
+        }
+        builder = OASFactory.builder();
+    }
+
+    @Benchmark
+    public Constructible createObject() {
+        return OASFactory.createObject(clazz);
+    }
+
+    @Benchmark
+    public Constructible builderCreateObject() {
+        return builder.createObject(clazz);
+    }
+}
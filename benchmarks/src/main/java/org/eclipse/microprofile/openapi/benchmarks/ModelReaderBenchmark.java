@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.reader.MyOASModelReaderImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures building documents in an {@link org.eclipse.microprofile.openapi.OASModelReader}: the document of the TCK's
+ * {@link MyOASModelReaderImpl}, the same document extended with synthetic resources, and a synthetic document of the
+ * same size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelReaderBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int resources;
+
+    private final MyOASModelReaderImpl reader = new MyOASModelReaderImpl();
+
+    @Setup
+    public void setup() {
+        Implementation.install();
+    }
+
+    @Benchmark
+    public OpenAPI modelReader() {
+        return reader.buildModel();
+    }
+
+    @Benchmark
+    public OpenAPI extendedModelReader() {
+        return SyntheticDocument.extend(reader.buildModel(), resources);
+    }
+
+    @Benchmark
+    public OpenAPI syntheticDocument() {
+        return SyntheticDocument.create(resources);
+    }
+}
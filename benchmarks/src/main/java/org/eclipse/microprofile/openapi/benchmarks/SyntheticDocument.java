@@ -0,0 +1,229 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.media.Content;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+
+/**
+ * Generates OpenAPI documents of a given size. A document describes a number of REST resources, each of which has a
+ * collection path, an item path, a component schema and a tag, so that the size of the document grows linearly with
+ * the number of resources. The generated documents are deterministic, so that runs with the same size are comparable.
+ * <p>
+ * The first resource is always {@code /bookings}, whose item path has a PUT operation, so that the generated documents
+ * can be filtered with the {@code AirlinesOASFilter} of the TCK. The resources added to an existing document have
+ * names prefixed with {@code synthetic}, so that they never replace the paths, components or tags of the document.
+ */
+public final class SyntheticDocument {
+
+    private static final String[] RESOURCES = {"bookings", "flights", "airlines", "reviews", "users", "airports",
+            "seats", "payments"};
+
+    private static final String PREFIX = "synthetic";
+
+    private final OASFactory.Builder builder;
+    private final String prefix;
+
+    private SyntheticDocument(OASFactory.Builder builder, String prefix) {
+        this.builder = builder;
+        this.prefix = prefix;
+    }
+
+    /**
+     * Creates a new document with the given number of resources.
+     *
+     * @param resources
+     *            the number of resources
+     * @return a new document
+     */
+    public static OpenAPI create(int resources) {
+        OASFactory.Builder builder = OASFactory.builder();
+        OpenAPI document = builder.createOpenAPI()
+                .openapi("3.0.3")
+                .info(builder.createInfo()
+                        .title("Synthetic API")
+                        .version("1.0")
+                        .description("A generated document with " + resources + " resources"))
+                .addServer(builder.createServer().url("https://api.example.com/v1"))
+                .addSecurityRequirement(builder.createSecurityRequirement().addScheme("apiKey"));
+        return new SyntheticDocument(builder, "").addResources(document, resources);
+    }
+
+    /**
+     * Adds the given number of resources to an existing document, e.g. to the document of an
+     * {@link org.eclipse.microprofile.openapi.OASModelReader}. The names of the added paths, components, tags and
+     * operations start with {@code synthetic}, so that the existing ones are kept.
+     *
+     * @param document
+     *            the document to extend
+     * @param resources
+     *            the number of resources
+     * @return the given document
+     */
+    public static OpenAPI extend(OpenAPI document, int resources) {
+        return new SyntheticDocument(OASFactory.builder(), PREFIX).addResources(document, resources);
+    }
+
+    private OpenAPI addResources(OpenAPI document, int resources) {
+        if (document.getComponents() == null) {
+            document.components(builder.createComponents());
+        }
+        if (document.getPaths() == null) {
+            document.paths(builder.createPaths());
+        }
+        Components components = document.getComponents()
+                .addParameter(name("limit"), builder.createParameter()
+                        .name("limit")
+                        .in(Parameter.In.QUERY)
+                        .schema(builder.createSchema()
+                                .type(SchemaType.INTEGER)
+                                .minimum(BigDecimal.ONE)
+                                .maximum(BigDecimal.valueOf(1000))))
+                .addParameter(name("offset"), builder.createParameter()
+                        .name("offset")
+                        .in(Parameter.In.QUERY)
+                        .schema(builder.createSchema().type(SchemaType.INTEGER).minimum(BigDecimal.ZERO)))
+                .addResponse(name("NotFound"), builder.createAPIResponse().description("The resource does not exist"))
+                .addSecurityScheme(name("apiKey"), builder.createSecurityScheme()
+                        .type(SecurityScheme.Type.APIKEY)
+                        .name("X-API-Key")
+                        .in(SecurityScheme.In.HEADER));
+
+        Map<String, Schema> schemas = new LinkedHashMap<>();
+        Map<String, PathItem> pathItems = new LinkedHashMap<>();
+        String previous = null;
+        for (int i = 0; i < resources; i++) {
+            String resource = RESOURCES[i % RESOURCES.length] + (i < RESOURCES.length ? "" : i / RESOURCES.length);
+            String path = prefix.isEmpty() ? "/" + resource : "/" + prefix + "-" + resource;
+            String type = capitalize(name(resource));
+            schemas.put(type, createSchema(previous));
+            pathItems.put(path, createCollection(type));
+            pathItems.put(path + "/{id}", createItem(type));
+            document.addTag(builder.createTag().name(type).description("Operations on " + resource));
+            previous = type;
+        }
+        components.addSchemas(schemas);
+        document.getPaths().addPathItems(pathItems);
+        return document;
+    }
+
+    private String name(String name) {
+        return prefix.isEmpty() ? name : prefix + capitalize(name);
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private Schema createSchema(String related) {
+        Map<String, Schema> properties = new LinkedHashMap<>();
+        properties.put("id", builder.createSchema().type(SchemaType.INTEGER).format("int64").readOnly(true));
+        properties.put("name", builder.createSchema().type(SchemaType.STRING).minLength(1).maxLength(100));
+        properties.put("description", builder.createSchema().type(SchemaType.STRING).nullable(true));
+        properties.put("status", builder.createSchema()
+                .type(SchemaType.STRING)
+                .enumeration(Arrays.<Object> asList("active", "suspended", "deleted")));
+        properties.put("createdAt", builder.createSchema().type(SchemaType.STRING).format("date-time"));
+        properties.put("labels", builder.createSchema()
+                .type(SchemaType.ARRAY)
+                .items(builder.createSchema().type(SchemaType.STRING)));
+        if (related != null) {
+            properties.put("related", builder.createSchema().ref(related));
+        }
+        return builder.createSchema()
+                .type(SchemaType.OBJECT)
+                .addRequired("id")
+                .addRequired("name")
+                .addProperties(properties);
+    }
+
+    private PathItem createCollection(String type) {
+        return builder.createPathItem()
+                .GET(createOperation(type, "list" + type)
+                        .addParameter(builder.createParameter().ref(name("limit")))
+                        .addParameter(builder.createParameter().ref(name("offset")))
+                        .responses(builder.createAPIResponses()
+                                .addAPIResponse("200", builder.createAPIResponse()
+                                        .description("The " + type + " list")
+                                        .addHeader("X-Total-Count", builder.createHeader()
+                                                .schema(builder.createSchema().type(SchemaType.INTEGER)))
+                                        .content(createContent(builder.createSchema()
+                                                .type(SchemaType.ARRAY)
+                                                .items(builder.createSchema().ref(type)))))))
+                .POST(createOperation(type, "create" + type)
+                        .requestBody(builder.createRequestBody()
+                                .required(true)
+                                .content(createContent(builder.createSchema().ref(type))))
+                        .responses(builder.createAPIResponses()
+                                .addAPIResponse("201", builder.createAPIResponse()
+                                        .description("The created " + type)
+                                        .content(createContent(builder.createSchema().ref(type))))));
+    }
+
+    private PathItem createItem(String type) {
+        return builder.createPathItem()
+                .addParameter(builder.createParameter()
+                        .name("id")
+                        .in(Parameter.In.PATH)
+                        .required(true)
+                        .schema(builder.createSchema().type(SchemaType.INTEGER).format("int64")))
+                .GET(createOperation(type, "get" + type)
+                        .responses(builder.createAPIResponses()
+                                .addAPIResponse("200", builder.createAPIResponse()
+                                        .description("The " + type)
+                                        .content(createContent(builder.createSchema().ref(type))))
+                                .addAPIResponse("404", builder.createAPIResponse().ref(name("NotFound")))))
+                .PUT(createOperation(type, "update" + type)
+                        .requestBody(builder.createRequestBody()
+                                .required(true)
+                                .content(createContent(builder.createSchema().ref(type))))
+                        .responses(builder.createAPIResponses()
+                                .addAPIResponse("200", builder.createAPIResponse()
+                                        .description("The updated " + type)
+                                        .content(createContent(builder.createSchema().ref(type))))
+                                .addAPIResponse("404", builder.createAPIResponse().ref(name("NotFound")))))
+                .DELETE(createOperation(type, "delete" + type)
+                        .responses(builder.createAPIResponses()
+                                .addAPIResponse("204", builder.createAPIResponse().description("Deleted"))
+                                .addAPIResponse("404", builder.createAPIResponse().ref(name("NotFound")))));
+    }
+
+    private Operation createOperation(String type, String operationId) {
+        return builder.createOperation()
+                .operationId(operationId)
+                .summary(operationId + " operation")
+                .addTag(type);
+    }
+
+    private Content createContent(Schema schema) {
+        return builder.createContent()
+                .addMediaType("application/json", builder.createMediaType().schema(schema));
+    }
+}
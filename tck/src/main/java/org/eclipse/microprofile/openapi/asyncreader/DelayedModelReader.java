@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.asyncreader;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.OASModelReader;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+/**
+ * A model reader which builds its model on another thread, and completes after a delay, so that the vendor is likely to
+ * have done its other processing, or to have received the models of the other readers, before the model is available.
+ */
+public abstract class DelayedModelReader implements OASModelReader {
+
+    private static final long DELAY_MILLIS = 500;
+
+    @Override
+    public OpenAPI buildModel() {
+        return buildModelAsync().toCompletableFuture().join();
+    }
+
+    @Override
+    public CompletionStage<OpenAPI> buildModelAsync() {
+        CompletableFuture<OpenAPI> model = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                TimeUnit.MILLISECONDS.sleep(DELAY_MILLIS);
+                model.complete(createModel());
+            } catch (InterruptedException | RuntimeException e) {
+                model.completeExceptionally(e);
+            }
+        }, getClass().getSimpleName());
+        thread.setDaemon(true);
+        thread.start();
+        return model;
+    }
+
+    /**
+     * Builds the model, on the thread of the reader once the delay has elapsed.
+     *
+     * @return the model
+     */
+    protected abstract OpenAPI createModel();
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.asyncreader;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+/**
+ * An asynchronous model reader whose model is likely to be available after the vendor read the static file and
+ * processed the annotations.
+ */
+public class MyAsyncOASModelReaderImpl extends DelayedModelReader {
+
+    @Override
+    protected OpenAPI createModel() {
+        return OASFactory.createOpenAPI()
+                .openapi("3.0.3")
+                .info(OASFactory.createInfo()
+                        .title("Asynchronous model reader")
+                        .version("0.1")
+                        .description("Built by an asynchronous model reader"))
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/async-reader", OASFactory.createPathItem()
+                                .GET(OASFactory.createOperation()
+                                        .operationId("getAsyncReader")
+                                        .responses(OASFactory.createAPIResponses()
+                                                .addAPIResponse("200", OASFactory.createAPIResponse()
+                                                        .description("Added by the model reader")))))
+                        .addPathItem("/streams", OASFactory.createPathItem()
+                                .POST(OASFactory.createOperation()
+                                        .description("Overridden by the static file"))));
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.countingfilter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.openapi.filter.AirlinesOASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+/**
+ * An {@link AirlinesOASFilter} whose effect is not idempotent: each call to {@link #filterOpenAPI(OpenAPI)} sets the
+ * <code>x-filter-runs</code> extension of the document to the number of times the filter has been run so far. A vendor
+ * which runs the filter again, for example for each request, serves a document with a value greater than 1.
+ */
+public class CountingOASFilter extends AirlinesOASFilter {
+
+    /**
+     * The name of the extension which holds the number of filter runs.
+     */
+    public static final String RUNS_EXTENSION = "x-filter-runs";
+
+    private static final AtomicInteger RUNS = new AtomicInteger();
+
+    @Override
+    public void filterOpenAPI(OpenAPI openAPI) {
+        super.filterOpenAPI(openAPI);
+        openAPI.addExtension(RUNS_EXTENSION, RUNS.incrementAndGet());
+    }
+}
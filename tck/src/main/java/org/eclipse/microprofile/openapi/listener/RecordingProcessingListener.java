@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.listener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.microprofile.openapi.OASProcessingListener;
+import org.eclipse.microprofile.openapi.models.Constructible;
+
+/**
+ * Records the calls made by the vendor, one line per call, so that they can be read by the TCK through the
+ * {@link ProcessingEventsResource}.
+ */
+public class RecordingProcessingListener implements OASProcessingListener {
+
+    private static final List<String> EVENTS = new ArrayList<>();
+
+    /**
+     * Returns the calls recorded so far.
+     *
+     * @return the recorded calls, in order
+     */
+    public static List<String> getEvents() {
+        synchronized (EVENTS) {
+            return new ArrayList<>(EVENTS);
+        }
+    }
+
+    private static void record(String event) {
+        synchronized (EVENTS) {
+            EVENTS.add(event);
+        }
+    }
+
+    @Override
+    public void stepStarted(Step step) {
+        record("started " + step);
+    }
+
+    @Override
+    public void stepCompleted(Step step, long durationNanos, long modelNodes) {
+        record("completed " + step + " " + durationNanos + " " + modelNodes);
+    }
+
+    @Override
+    public void filterCompleted(Map<Class<? extends Constructible>, Long> invocations) {
+        StringBuilder event = new StringBuilder("filtered");
+        Map<String, Long> sorted = new TreeMap<>();
+        invocations.forEach((type, count) -> sorted.put(type.getSimpleName(), count));
+        sorted.forEach((type, count) -> event.append(' ').append(type).append('=').append(count));
+        record(event.toString());
+    }
+
+    @Override
+    public void documentRendered(String mediaType, long size) {
+        record("rendered " + mediaType + " " + size);
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.multireader;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.asyncreader.DelayedModelReader;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+/**
+ * The first of the registered model readers. Its model is built asynchronously and completes after the model of the
+ * {@link SecondModelReader}, but it is merged first.
+ */
+public class FirstModelReader extends DelayedModelReader {
+
+    @Override
+    protected OpenAPI createModel() {
+        return OASFactory.createOpenAPI()
+                .openapi("3.0.3")
+                .info(OASFactory.createInfo()
+                        .title("First model reader")
+                        .version("1.0")
+                        .description("Only set by the first model reader"))
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/first", ModelReaders.pathItem("getFirst", "From the first model reader"))
+                        .addPathItem("/shared", ModelReaders.pathItem("getShared", "From the first model reader")));
+    }
+}
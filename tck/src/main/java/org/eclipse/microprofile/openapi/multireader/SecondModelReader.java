@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.multireader;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.OASModelReader;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+/**
+ * The second of the registered model readers. Its model is built synchronously and overrides the model of the
+ * {@link FirstModelReader}.
+ */
+public class SecondModelReader implements OASModelReader {
+
+    @Override
+    public OpenAPI buildModel() {
+        return OASFactory.createOpenAPI()
+                .openapi("3.0.3")
+                .info(OASFactory.createInfo()
+                        .title("Second model reader")
+                        .version("2.0"))
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/second", ModelReaders.pathItem("getSecond", "From the second model reader"))
+                        .addPathItem("/shared", ModelReaders.pathItem("getShared", "From the second model reader")));
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * Verifies that the model of a model reader which overrides
+ * {@link org.eclipse.microprofile.openapi.OASModelReader#buildModelAsync()} is merged in the order defined by the
+ * processing rules, although it completes after a delay.
+ */
+public class AsyncModelReaderTest extends AppTestBase {
+
+    @Deployment(name = "airlinesAsyncReader", testable = false)
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "airlinesAsyncReader.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.airlines")
+                .addPackages(true, "org.eclipse.microprofile.openapi.asyncreader")
+                .addAsManifestResource("openapi.yaml", "openapi.yaml")
+                .addAsManifestResource("microprofile-async-reader.properties", "microprofile-config.properties");
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testReaderModel(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("paths", hasKey("/async-reader"));
+        vr.body("paths.'/async-reader'.get.operationId", equalTo("getAsyncReader"));
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testStaticFileOverridesReader(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("paths.'/streams'.post.description", equalTo("subscribes a client to receive out-of-band data"));
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testAnnotationsOverrideReader(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("info.title", equalTo("AirlinesRatingApp API"));
+        vr.body("info.version", equalTo("1.0"));
+        vr.body("paths", hasKey("/bookings"));
+    }
+}
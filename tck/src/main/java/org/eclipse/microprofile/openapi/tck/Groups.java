@@ -23,4 +23,15 @@ public class Groups {
 
     public static final String BEAN_VALIDATION = "bean-validation";
 
+    /**
+     * Tests which deploy a large generated application. They require a Java compiler in the test client and take longer
+     * than the other tests.
+     */
+    public static final String SCALE = "scale";
+
+    /**
+     * Tests which send many concurrent requests to the /openapi endpoint. They take longer than the other tests.
+     */
+    public static final String CONCURRENCY = "concurrency";
+
 }
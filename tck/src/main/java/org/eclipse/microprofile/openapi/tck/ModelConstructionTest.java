@@ -38,9 +38,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -557,6 +561,24 @@ public class ModelConstructionTest extends Arquillian {
         Callback otherCallback = createConstructibleInstance(Callback.class);
         checkMapImmutable(o, Operation::getCallbacks, "otherCallback", otherCallback);
         checkNullValueInAdd(o::getCallbacks, o::addCallback, "someCallback", callbackValue);
+
+        // Check the accessors which do not copy the list and map properties
+        final Operation o2 = createConstructibleInstance(Operation.class);
+        o2.forEachParameter((parameter) -> fail("A new operation is expected to have no parameters."));
+        o2.forEachCallback((name, callback) -> fail("A new operation is expected to have no callbacks."));
+        o2.addParameter(p).addParameter(p2);
+        assertTrue(o2.hasParameters(), "The operation is expected to have parameters.");
+        final List<Parameter> parameters = new ArrayList<>();
+        o2.forEachParameter(parameters::add);
+        assertEquals(parameters, Arrays.asList(p, p2), "The parameters are expected to be visited in order.");
+        o2.addCallback(callbackKey, callbackValue);
+        assertTrue(o2.hasCallbacks(), "The operation is expected to have callbacks.");
+        final Map<String, Callback> callbacks = new HashMap<>();
+        o2.forEachCallback(callbacks::put);
+        assertEquals(callbacks, Collections.singletonMap(callbackKey, callbackValue),
+                "The callbacks are expected to be visited.");
+        assertFalse(o2.hasServers(), "The operation is expected to have no servers.");
+        assertFalse(o2.hasSecurity(), "The operation is expected to have no security requirements.");
     }
 
     @Test
@@ -640,6 +662,28 @@ public class ModelConstructionTest extends Arquillian {
         checkMapEntry(pi.getOperations(), PathItem.HttpMethod.PATCH, o7);
         checkMapEntry(pi.getOperations(), PathItem.HttpMethod.TRACE, o8);
 
+        final List<HttpMethod> visitedMethods = new ArrayList<>();
+        pi.forEachOperation((method, operation) -> {
+            checkSameObject(pi.getOperation(method), operation);
+            visitedMethods.add(method);
+        });
+        assertEquals(visitedMethods, Arrays.asList(HttpMethod.values()),
+                "forEachOperation is expected to visit the operations in the order of the HttpMethod constants.");
+
+        final Map<HttpMethod, Operation> operationsView = pi.getOperationsView();
+        assertEquals(operationsView.size(), 8, "The view is expected to contain eight entries.");
+        assertEquals(new ArrayList<>(operationsView.keySet()), Arrays.asList(HttpMethod.values()),
+                "The view is expected to iterate in the order of the HttpMethod constants.");
+        checkSameObject(o1, operationsView.get(HttpMethod.GET));
+        checkSameObject(o1, operationsView.remove(HttpMethod.GET));
+        assertNull(pi.getGET(), "Removing an entry from the view is expected to remove the operation.");
+        assertEquals(operationsView.size(), 7, "The view is expected to contain seven entries.");
+        checkSameObject(pi, pi.GET(o1));
+        checkSameObject(o1, operationsView.get(HttpMethod.GET));
+        checkSameObject(o1, operationsView.put(HttpMethod.GET, o2));
+        checkSameObject(o2, pi.getGET());
+        pi.setOperation(HttpMethod.GET, o1);
+
         // test with GET:
         PathItem pathItemGET = createConstructibleInstance(PathItem.class);
         Operation operationGET = createConstructibleInstance(Operation.class).description("This is some GET op");
@@ -1065,6 +1109,11 @@ public class ModelConstructionTest extends Arquillian {
         checkSameObject(s, s.addEnumeration(enumeration));
         assertEquals(s.getEnumeration().size(), 2, "The list is expected to contain two entries.");
         checkListEntry(s.getEnumeration(), enumeration);
+        assertTrue(s.hasEnumeration(enumeration), enumeration + " is expected to be an enumerated value.");
+        assertFalse(s.hasEnumeration("otherValue"), "otherValue is not expected to be an enumerated value.");
+        checkSameObject(s, s.addEnumeration(enumeration));
+        assertEquals(s.getEnumeration(), Arrays.asList(enumeration2, enumeration),
+                "Adding an existing value is expected to leave the list unchanged.");
 
         final String otherEnumerationValue = new String("otherValue");
         checkListImmutable(s, Schema::getEnumeration, otherEnumerationValue);
@@ -1122,6 +1171,30 @@ public class ModelConstructionTest extends Arquillian {
         checkSameObject(s, s.addRequired(required));
         assertEquals(s.getRequired().size(), 2, "The list is expected to contain two entries.");
         checkListEntry(s.getRequired(), required);
+        assertTrue(s.isRequired(required), required + " is expected to be required.");
+        assertFalse(s.isRequired("otherRequired"), "otherRequired is not expected to be required.");
+        checkSameObject(s, s.addRequired(required));
+        assertEquals(s.getRequired(), Arrays.asList(required2, required),
+                "Adding an existing name is expected to leave the list unchanged.");
+        s.removeRequired(required2);
+        assertFalse(s.isRequired(required2), required2 + " is not expected to be required after removal.");
+        assertEquals(s.getRequired(), Collections.singletonList(required));
+
+        s.setMinimum(new BigDecimal("5"));
+        s.setMaximum(new BigDecimal("10.0"));
+        s.setMultipleOf(new BigDecimal("0.5"));
+        assertEquals(s.getMinimumAsLong(), OptionalLong.of(5L), "An integral minimum is expected as a long.");
+        assertEquals(s.getMaximumAsLong(), OptionalLong.of(10L), "An integral maximum is expected as a long.");
+        assertEquals(s.getMultipleOfAsLong(), OptionalLong.empty(), "A fractional value is not expected as a long.");
+        s.setMaximum(new BigDecimal("1e30"));
+        assertEquals(s.getMaximumAsLong(), OptionalLong.empty(), "A value out of range is not expected as a long.");
+        s.setMinimum(null);
+        assertEquals(s.getMinimumAsLong(), OptionalLong.empty(), "An unset value is expected to be empty.");
+
+        s.setMinLength(3);
+        s.setMaxItems(null);
+        assertEquals(s.getMinLengthOrDefault(0), 3, "The value of a set property is expected.");
+        assertEquals(s.getMaxItemsOrDefault(-1), -1, "The default value of an unset property is expected.");
 
         final String otherRequiredValue = new String("otherRequired");
         checkListImmutable(s, Schema::getEnumeration, otherRequiredValue);
@@ -1390,8 +1463,44 @@ public class ModelConstructionTest extends Arquillian {
         processConstructible(Tag.class);
     }
 
+    @Test
+    public void builderTest() {
+        final OASFactory.Builder builder = OASFactory.builder();
+        final Schema s1 = builder.createSchema();
+        final Schema s2 = builder.createObject(Schema.class);
+        assertNotNull(s1, "The return value of createSchema() must not be null.");
+        assertNotSame(s1, s2, "The builder is expected to create a new object on each invocation.");
+        assertEquals(s1.getClass(), OASFactory.createSchema().getClass(),
+                "The builder is expected to create the same implementation class as OASFactory.");
+
+        // Check that batch insertion adds every entry, in order.
+        final Map<String, Schema> properties = new LinkedHashMap<>();
+        properties.put("name", builder.createSchema());
+        properties.put("age", builder.createSchema());
+        checkSameObject(s1, s1.addProperties(properties));
+        assertEquals(new ArrayList<>(s1.getProperties().keySet()), Arrays.asList("name", "age"),
+                "The properties are expected to be added in order.");
+        checkMapEntry(s1.getProperties(), "age", properties.get("age"));
+        s1.addProperties(Collections.singletonMap("name", s2));
+        assertEquals(s1.getProperties().size(), 2, "The map is expected to contain two entries.");
+        assertSame(s1.getProperties().get("name"), s2, "An added property is expected to replace an existing one.");
+
+        final Map<String, PathItem> pathItems = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            pathItems.put("/items/" + i, builder.createPathItem());
+        }
+        final Paths p = builder.createPaths();
+        checkSameObject(p, p.addPathItems(pathItems));
+        assertEquals(p.getPathItems(), pathItems, "The map is expected to contain every added path item.");
+
+        final Components c = builder.createComponents();
+        checkSameObject(c, c.addSchemas(properties));
+        assertEquals(c.getSchemas(), properties, "The map is expected to contain every added schema.");
+    }
+
     private <T extends Constructible> T processConstructible(Class<T> clazz) {
         final T o = createConstructibleInstance(clazz);
+        processLazyCollections(o, clazz);
         if (o instanceof Extensible && Extensible.class.isAssignableFrom(clazz)) {
             processExtensible((Extensible<?>) o);
         }
@@ -1420,6 +1529,65 @@ public class ModelConstructionTest extends Arquillian {
         return o1;
     }
 
+    private void processLazyCollections(Constructible o, Class<?> clazz) {
+        // Check that the list and map properties of a new object are null or empty, and that the hasXxx() and
+        // forEachXxx(...) methods report no entries in both cases.
+        final List<Property> collections = new ArrayList<>();
+        collectProperties(clazz).values().stream()
+                .filter((p) -> p.isComplete() && (p.isCompatible(Map.class) || p.isCompatible(List.class)))
+                .forEach(collections::add);
+        for (Property p : collections) {
+            assertNoEntries(o, clazz, p, "a new");
+        }
+        assertForEachVisitsNothing(o, clazz, "a new");
+        for (Property p : collections) {
+            p.invokeSetter(o, p.isCompatible(Map.class) ? new HashMap<>() : new ArrayList<>());
+            assertNoEntries(o, clazz, p, "an emptied");
+        }
+        assertForEachVisitsNothing(o, clazz, "an emptied");
+    }
+
+    private void assertNoEntries(Constructible o, Class<?> clazz, Property p, String state) {
+        final Object value = p.invokeGetter(o);
+        assertTrue(
+                value == null || (value instanceof Map ? ((Map<?, ?>) value).isEmpty() : ((List<?>) value).isEmpty()),
+                "The property \"" + p.getName() + "\" of " + state + " " + clazz.getName()
+                        + " is expected to be null or empty.");
+        final String hasName = "has" + Character.toUpperCase(p.getName().charAt(0)) + p.getName().substring(1);
+        try {
+            final Method has = clazz.getMethod(hasName);
+            assertEquals(has.invoke(o), Boolean.FALSE, "The return value of " + hasName + "() of " + state + " "
+                    + clazz.getName() + " is expected to be false.");
+        } catch (NoSuchMethodException e) {
+            // Not every list or map property has a hasXxx() method
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            fail("Invocation of method \"" + hasName + "\" failed: " + e.getMessage());
+        }
+    }
+
+    private void assertForEachVisitsNothing(Constructible o, Class<?> clazz, String state) {
+        for (Method forEach : clazz.getMethods()) {
+            if (!forEach.getName().startsWith("forEach") || forEach.getParameterCount() != 1) {
+                continue;
+            }
+            final String message = forEach.getName() + "(...) of " + state + " " + clazz.getName()
+                    + " is expected to visit no entries.";
+            final Object action;
+            if (forEach.getParameterTypes()[0] == Consumer.class) {
+                action = (Consumer<Object>) (v) -> fail(message);
+            } else if (forEach.getParameterTypes()[0] == BiConsumer.class) {
+                action = (BiConsumer<Object, Object>) (k, v) -> fail(message);
+            } else {
+                continue;
+            }
+            try {
+                forEach.invoke(o, action);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                fail("Invocation of method \"" + forEach.getName() + "\" failed: " + e.getMessage());
+            }
+        }
+    }
+
     private void processExtensible(Extensible<?> e) {
         final String extensionName1 = "x-" + e.getClass().getName() + "-1";
         final Object obj1 = new Object();
@@ -1440,8 +1608,20 @@ public class ModelConstructionTest extends Arquillian {
         assertSame(map.get(extensionName2), obj2,
                 "The value associated with the key: " + extensionName2
                         + " is expected to be the same one that was added.");
+        // Check that extensions can be read without the map.
+        assertTrue(e.hasExtensions(), "The return value of hasExtensions() is expected to be true.");
+        assertSame(e.getExtension(extensionName1), obj1,
+                "The return value of getExtension(\"" + extensionName1
+                        + "\") is expected to be the same one that was added.");
+        assertNull(e.getExtension("x-missing"),
+                "The return value of getExtension(\"x-missing\") is expected to be null.");
+        final Map<String, Object> visited = new LinkedHashMap<>();
+        e.forEachExtension(visited::put);
+        assertEquals(visited, map, "forEachExtension is expected to visit each extension.");
         e.removeExtension(extensionName1);
         assertEquals(e.getExtensions().size(), 1, "The extensions map is expected to contain one entry.");
+        assertNull(e.getExtension(extensionName1),
+                "The return value of getExtension(\"" + extensionName1 + "\") is expected to be null.");
         // Check that the extension map can be replaced with the setter and that it is returned by the getter.
         final Map<String, Object> newMap = new HashMap<>();
         e.setExtensions(newMap);
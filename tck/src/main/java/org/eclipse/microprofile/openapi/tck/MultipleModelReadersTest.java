@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+
+import org.eclipse.microprofile.openapi.asyncreader.DelayedModelReader;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * Verifies that the models of several registered model readers are merged in the listed order. The first reader
+ * completes after the second one, so a vendor which merges the models in completion order fails this test.
+ */
+public class MultipleModelReadersTest extends AppTestBase {
+
+    @Deployment(name = "multipleReaders", testable = false)
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "multipleReaders.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.multireader")
+                .addClass(DelayedModelReader.class)
+                .addAsManifestResource("microprofile-multiple-readers.properties", "microprofile-config.properties");
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testAllModelsMerged(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("paths", hasKey("/first"));
+        vr.body("paths", hasKey("/second"));
+        vr.body("paths.'/first'.get.operationId", equalTo("getFirst"));
+        vr.body("paths.'/second'.get.operationId", equalTo("getSecond"));
+        vr.body("info.description", equalTo("Only set by the first model reader"));
+    }
+
+    @Test(dataProvider = "formatProvider")
+    public void testListedOrder(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("info.title", equalTo("Second model reader"));
+        vr.body("info.version", equalTo("2.0"));
+        vr.body("paths.'/shared'.get.description", equalTo("From the second model reader"));
+    }
+}
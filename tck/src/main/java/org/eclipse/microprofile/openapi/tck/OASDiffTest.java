@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.OASDiff;
+import org.eclipse.microprofile.openapi.OASDiff.Change;
+import org.eclipse.microprofile.openapi.OASDiff.ChangeType;
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * Verifies that {@link OASDiff} computes the differences between model trees built with the implementation's model
+ * classes.
+ */
+public class OASDiffTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class);
+    }
+
+    @Test
+    public void testIdenticalTrees() {
+        OpenAPI doc = createDocument();
+        assertTrue(OASDiff.between(doc, doc).isEmpty(), "A tree is expected to have no differences with itself.");
+        assertTrue(OASDiff.between(createDocument(), createDocument()).isEmpty(),
+                "Structurally equal trees are expected to have no differences.");
+    }
+
+    @Test
+    public void testPathItemChanges() {
+        OpenAPI source = createDocument();
+        OpenAPI target = createDocument();
+        target.getPaths().removePathItem("/pets/{id}");
+        target.getPaths().addPathItem("/owners",
+                OASFactory.createPathItem().GET(OASFactory.createOperation().operationId("getOwners")));
+
+        OASDiff diff = OASDiff.between(source, target);
+        assertChange(diff, ChangeType.REMOVED, "/paths/~1pets~1{id}");
+        assertChange(diff, ChangeType.ADDED, "/paths/~1owners");
+        assertEquals(diff.getChangedPaths(), new LinkedHashSet<>(Arrays.asList("/pets/{id}", "/owners")));
+    }
+
+    @Test
+    public void testOperationAndParameterChanges() {
+        OpenAPI source = createDocument();
+        OpenAPI target = createDocument();
+        Operation get = target.getPaths().getPathItem("/pets/{id}").getGET();
+        get.setDescription("Returns a pet");
+        List<Parameter> parameters = new ArrayList<>(get.getParameters());
+        parameters.add(1, OASFactory.createParameter().name("X-Request-Id").in(Parameter.In.HEADER));
+        get.setParameters(parameters);
+        target.getPaths().getPathItem("/pets/{id}").DELETE(OASFactory.createOperation().operationId("deletePet"));
+
+        OASDiff diff = OASDiff.between(source, target);
+        assertChange(diff, ChangeType.ADDED, "/paths/~1pets~1{id}/get/description");
+        assertChange(diff, ChangeType.ADDED, "/paths/~1pets~1{id}/get/parameters/1");
+        assertChange(diff, ChangeType.ADDED, "/paths/~1pets~1{id}/delete");
+        assertEquals(diff.getChanges().size(), 3, "Unexpected changes: " + diff);
+    }
+
+    @Test
+    public void testSchemaPropertyChanges() {
+        OpenAPI source = createDocument();
+        OpenAPI target = createDocument();
+        Schema pet = target.getComponents().getSchemas().get("Pet");
+        pet.removeProperty("tag");
+        pet.addProperty("age", OASFactory.createSchema().type(Schema.SchemaType.INTEGER));
+        pet.getProperties().get("name").setType(Schema.SchemaType.INTEGER);
+
+        OASDiff diff = OASDiff.between(source, target);
+        assertChange(diff, ChangeType.REMOVED, "/components/schemas/Pet/properties/tag");
+        assertChange(diff, ChangeType.ADDED, "/components/schemas/Pet/properties/age");
+        Change type = assertChange(diff, ChangeType.CHANGED, "/components/schemas/Pet/properties/name/type");
+        assertEquals(type.getSource(), Schema.SchemaType.STRING);
+        assertEquals(type.getTarget(), Schema.SchemaType.INTEGER);
+        assertTrue(diff.getChangedPaths().isEmpty(), "No path item is expected to have changed.");
+    }
+
+    @Test
+    public void testJsonPatch() {
+        OpenAPI source = createDocument();
+        OpenAPI target = createDocument();
+        target.getInfo().setVersion("2.0");
+        target.getComponents().getSchemas().get("Pet").addExtension("x-internal", Boolean.TRUE);
+        target.getPaths().removePathItem("/pets/{id}");
+
+        List<Map<String, Object>> patch = OASDiff.between(source, target).toJsonPatch();
+        assertTrue(patch.contains(operation("add", "/components/schemas/Pet/x-internal", Boolean.TRUE)),
+                "Unexpected patch: " + patch);
+        assertTrue(patch.contains(operation("replace", "/info/version", "2.0")), "Unexpected patch: " + patch);
+        assertTrue(patch.contains(operation("remove", "/paths/~1pets~1{id}", null)), "Unexpected patch: " + patch);
+        assertEquals(patch.size(), 3, "Unexpected patch: " + patch);
+    }
+
+    @Test
+    public void testEmptyModels() {
+        OpenAPI source = createDocument().addSecurityRequirement(OASFactory.createSecurityRequirement());
+        OpenAPI target = createDocument().addSecurityRequirement(OASFactory.createSecurityRequirement()
+                .addScheme("api"));
+        target.getPaths().removePathItem("/pets/{id}");
+
+        OASDiff diff = OASDiff.between(source, target);
+        assertChange(diff, ChangeType.ADDED, "/security/0/api");
+        assertChange(diff, ChangeType.REMOVED, "/paths/~1pets~1{id}");
+        List<Map<String, Object>> patch = diff.toJsonPatch();
+        assertTrue(patch.contains(operation("add", "/security/0/api", new ArrayList<>())),
+                "Unexpected patch: " + patch);
+        assertTrue(patch.contains(operation("remove", "/paths/~1pets~1{id}", null)), "Unexpected patch: " + patch);
+        assertEquals(patch.size(), 2, "Unexpected patch: " + patch);
+
+        OASDiff added = OASDiff.between(createDocument(), source);
+        assertChange(added, ChangeType.ADDED, "/security");
+        assertEquals(added.toJsonPatch(), Arrays.asList(operation("add", "/security",
+                Arrays.asList(new LinkedHashMap<>()))), "An empty security requirement is expected to be kept.");
+    }
+
+    private OpenAPI createDocument() {
+        return OASFactory.createOpenAPI()
+                .openapi("3.0.3")
+                .info(OASFactory.createInfo().title("Pets").version("1.0"))
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/pets/{id}", OASFactory.createPathItem()
+                                .GET(OASFactory.createOperation()
+                                        .operationId("getPet")
+                                        .addParameter(OASFactory.createParameter().name("id")
+                                                .in(Parameter.In.PATH).required(true))
+                                        .addParameter(OASFactory.createParameter().name("fields")
+                                                .in(Parameter.In.QUERY)))))
+                .components(OASFactory.createComponents()
+                        .addSchema("Pet", OASFactory.createSchema()
+                                .type(Schema.SchemaType.OBJECT)
+                                .addProperty("name", OASFactory.createSchema().type(Schema.SchemaType.STRING))
+                                .addProperty("tag", OASFactory.createSchema().type(Schema.SchemaType.STRING))));
+    }
+
+    private Change assertChange(OASDiff diff, ChangeType type, String path) {
+        for (Change change : diff.getChanges()) {
+            if (change.getPath().equals(path)) {
+                assertEquals(change.getType(), type, "Unexpected type of change for " + path);
+                return change;
+            }
+        }
+        assertFalse(true, "Expected a change at " + path + " but got: " + diff);
+        return null;
+    }
+
+    private Map<String, Object> operation(String op, String path, Object value) {
+        Map<String, Object> operation = new LinkedHashMap<>();
+        operation.put("op", op);
+        operation.put("path", path);
+        if (value != null) {
+            operation.put("value", value);
+        }
+        return operation;
+    }
+}
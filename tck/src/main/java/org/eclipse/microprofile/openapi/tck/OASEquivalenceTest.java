@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.math.BigDecimal;
+
+import org.eclipse.microprofile.openapi.OASEquivalence;
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * Verifies the structural equality computed by {@link OASEquivalence} on the implementation's model classes.
+ */
+public class OASEquivalenceTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class);
+    }
+
+    @Test
+    public void testEquivalentTrees() {
+        OASEquivalence equivalence = new OASEquivalence();
+        Schema a = createSchema();
+        Schema b = createSchema();
+        b.setMinimum(new BigDecimal("1.00"));
+        b.getProperties().get("name").setEnumeration(null);
+
+        assertTrue(equivalence.equivalent(a, b), "Structurally equal schemas are expected to be equivalent.");
+        assertEquals(equivalence.hash(a), equivalence.hash(b), "Equivalent schemas must have the same hash code.");
+    }
+
+    @Test
+    public void testDifferentTrees() {
+        OASEquivalence equivalence = new OASEquivalence();
+        Schema a = createSchema();
+        Schema b = createSchema();
+        b.getProperties().get("tags").getItems().setType(Schema.SchemaType.INTEGER);
+        assertFalse(equivalence.equivalent(a, b), "Schemas with different items are not equivalent.");
+
+        Operation get = OASFactory.createOperation().operationId("get");
+        Operation other = OASFactory.createOperation().operationId("get").deprecated(true);
+        assertFalse(equivalence.equivalent(get, other), "Operations with different flags are not equivalent.");
+        assertFalse(equivalence.equivalent(OASFactory.createSchema().title("get"), get),
+                "Objects of different model types are not equivalent.");
+    }
+
+    @Test
+    public void testInvalidation() {
+        OASEquivalence equivalence = new OASEquivalence();
+        Schema a = createSchema();
+        Schema b = createSchema();
+        assertTrue(equivalence.equivalent(a, b));
+
+        Schema items = b.getProperties().get("tags").getItems();
+        items.setFormat("uuid");
+        equivalence.invalidate(items);
+        assertFalse(equivalence.equivalent(a, b), "A change must be visible after the modified node is invalidated.");
+
+        items.setFormat(null);
+        equivalence.invalidate(items);
+        assertTrue(equivalence.equivalent(a, b), "A reverted change must be visible after invalidation.");
+    }
+
+    @Test
+    public void testCycles() {
+        OASEquivalence equivalence = new OASEquivalence();
+        Schema a = OASFactory.createSchema().title("node");
+        a.addProperty("next", a);
+        Schema b = OASFactory.createSchema().title("node");
+        b.addProperty("next", b);
+        assertTrue(equivalence.equivalent(a, b), "Identical recursive schemas are expected to be equivalent.");
+
+        Schema c = OASFactory.createSchema().title("other");
+        c.addProperty("next", c);
+        assertFalse(equivalence.equivalent(a, c), "Different recursive schemas are not equivalent.");
+    }
+
+    private Schema createSchema() {
+        return OASFactory.createSchema()
+                .type(Schema.SchemaType.OBJECT)
+                .minimum(BigDecimal.ONE)
+                .addProperty("name", OASFactory.createSchema().type(Schema.SchemaType.STRING))
+                .addProperty("tags", OASFactory.createSchema()
+                        .type(Schema.SchemaType.ARRAY)
+                        .items(OASFactory.createSchema().type(Schema.SchemaType.STRING)));
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.OASInstrumentedFilter;
+import org.eclipse.microprofile.openapi.OASInstrumentedFilter.FilterMethod;
+import org.eclipse.microprofile.openapi.OASInstrumentedFilter.Statistics;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * Verifies the statistics recorded by {@link OASInstrumentedFilter} for the implementation's model classes.
+ */
+public class OASInstrumentedFilterTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class);
+    }
+
+    @Test
+    public void testStatistics() {
+        OASInstrumentedFilter filter = new OASInstrumentedFilter(new OASFilter() {
+            @Override
+            public Schema filterSchema(Schema schema) {
+                return "internal".equals(schema.getTitle()) ? null : schema;
+            }
+        });
+        Schema kept = OASFactory.createSchema().title("public");
+        assertSame(filter.filterSchema(kept), kept);
+        assertNull(filter.filterSchema(OASFactory.createSchema().title("internal")));
+        assertSame(filter.filterSchema(kept), kept);
+        PathItem pathItem = OASFactory.createPathItem();
+        assertSame(filter.filterPathItem(pathItem), pathItem);
+        OpenAPI openAPI = OASFactory.createOpenAPI();
+        filter.filterOpenAPI(openAPI);
+
+        Statistics schemas = filter.getStatistics(FilterMethod.SCHEMA);
+        assertEquals(schemas.getCount(), 3);
+        assertEquals(schemas.getRemovals(), 1);
+        assertEquals(Arrays.stream(schemas.getHistogram()).sum(), 3);
+        assertTrue(schemas.getMaxNanos() <= schemas.getTotalNanos());
+        assertTrue(schemas.getPercentileNanos(0.99) <= schemas.getMaxNanos());
+        assertEquals(filter.getStatistics(FilterMethod.OPEN_API).getCount(), 1);
+        assertEquals(filter.getStatistics(FilterMethod.OPEN_API).getRemovals(), 0);
+        assertEquals(filter.getStatistics(FilterMethod.TAG).getCount(), 0);
+        assertEquals(filter.getStatistics(FilterMethod.TAG).getPercentileNanos(0.5), 0);
+
+        assertEquals(filter.getInvocations().get(Schema.class), Long.valueOf(3));
+        assertEquals(filter.getInvocations().get(OpenAPI.class), Long.valueOf(1));
+        assertEquals(filter.getInvocations().size(), 3, "Methods which were not called are not expected.");
+
+        filter.reset();
+        assertEquals(filter.getStatistics(FilterMethod.SCHEMA).getCount(), 0);
+        assertTrue(filter.getInvocations().isEmpty());
+    }
+
+    @Test
+    public void testReport() {
+        OASInstrumentedFilter filter = new OASInstrumentedFilter(new OASFilter() {
+        });
+        filter.filterPathItem(OASFactory.createPathItem());
+        filter.filterPathItem(OASFactory.createPathItem());
+
+        Map<String, Object> report = filter.toReport();
+        assertEquals(report.keySet(), Collections.singleton("filterPathItem"));
+        Map<?, ?> pathItems = (Map<?, ?>) report.get("filterPathItem");
+        assertEquals(pathItems.get("count"), 2L);
+        assertEquals(pathItems.get("removals"), 0L);
+        long histogramCount = 0;
+        for (Object count : ((Map<?, ?>) pathItems.get("histogram")).values()) {
+            histogramCount += (Long) count;
+        }
+        assertEquals(histogramCount, 2);
+    }
+
+    @Test
+    public void testException() {
+        OASInstrumentedFilter filter = new OASInstrumentedFilter(new OASFilter() {
+            @Override
+            public PathItem filterPathItem(PathItem pathItem) {
+                throw new IllegalStateException("Expected");
+            }
+        });
+        try {
+            filter.filterPathItem(OASFactory.createPathItem());
+            fail("The exception of the decorated filter is expected to be thrown.");
+        } catch (IllegalStateException e) {
+            // Expected
+        }
+        assertEquals(filter.getStatistics(FilterMethod.PATH_ITEM).getCount(), 1);
+        assertEquals(filter.getStatistics(FilterMethod.PATH_ITEM).getRemovals(), 0);
+    }
+
+    @Test
+    public void testBuckets() {
+        assertEquals(OASInstrumentedFilter.getBucketUpperBound(0), 1000);
+        assertEquals(OASInstrumentedFilter.getBucketUpperBound(1), 2000);
+        assertEquals(OASInstrumentedFilter.getBucketUpperBound(OASInstrumentedFilter.BUCKETS - 1), Long.MAX_VALUE);
+        for (int i = 1; i < OASInstrumentedFilter.BUCKETS; i++) {
+            assertTrue(OASInstrumentedFilter.getBucketUpperBound(i) > OASInstrumentedFilter.getBucketUpperBound(i - 1));
+        }
+    }
+}
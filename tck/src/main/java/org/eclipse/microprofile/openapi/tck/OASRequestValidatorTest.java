@@ -0,0 +1,375 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.OASRequestValidator;
+import org.eclipse.microprofile.openapi.OASViolation;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.PathItem.HttpMethod;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter.In;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * Verifies that {@link OASRequestValidator} validates requests against documents built from the implementation's model
+ * classes.
+ */
+public class OASRequestValidatorTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class);
+    }
+
+    @Test
+    public void testParameters() {
+        OASRequestValidator validator = OASRequestValidator.compile(createDocument());
+
+        assertValid(validator, new TestRequest(HttpMethod.GET, "/pets").query("limit", "10").query("tag", "a,b"));
+        assertValid(validator, new TestRequest(HttpMethod.GET, "/pets"));
+        assertViolations(validator, new TestRequest(HttpMethod.GET, "/pets").query("limit", "ten"), "/query/limit");
+        assertViolations(validator, new TestRequest(HttpMethod.GET, "/pets").query("limit", "1000"), "/query/limit");
+        assertViolations(validator, new TestRequest(HttpMethod.GET, "/pets").query("tag", "a,b,c"), "/query/tag");
+
+        assertValid(validator, new TestRequest(HttpMethod.GET, "/pets/12").header("X-Trace", "abc-123"));
+        assertViolations(validator, new TestRequest(HttpMethod.GET, "/pets/twelve"), "/path/petId");
+        assertViolations(validator, new TestRequest(HttpMethod.GET, "/pets/12").header("X-Trace", "abc 123"),
+                "/header/X-Trace");
+    }
+
+    @Test
+    public void testRouting() {
+        OASRequestValidator validator = OASRequestValidator.compile(createDocument());
+
+        assertValid(validator, new TestRequest(HttpMethod.GET, "/pets/mine").query("status", "sold"));
+        assertViolations(validator, new TestRequest(HttpMethod.GET, "/pets/mine"), "/query/status");
+        assertViolations(validator, new TestRequest(HttpMethod.GET, "/pets/mine").query("status", "lost"),
+                "/query/status");
+        assertViolations(validator, new TestRequest(HttpMethod.GET, "/owners"), "");
+        assertViolations(validator, new TestRequest(HttpMethod.DELETE, "/pets"), "");
+    }
+
+    @Test
+    public void testRequestBody() {
+        OASRequestValidator validator = OASRequestValidator.compile(createDocument());
+
+        Map<String, Object> pet = new LinkedHashMap<>();
+        pet.put("name", "Rex");
+        pet.put("tags", Arrays.asList("dog"));
+        Map<String, Object> child = new LinkedHashMap<>();
+        child.put("name", "Puppy");
+        pet.put("children", Collections.singletonList(child));
+        assertValid(validator, new TestRequest(HttpMethod.POST, "/pets").body("application/json", pet));
+
+        assertViolations(validator, new TestRequest(HttpMethod.POST, "/pets"), "/body");
+        assertViolations(validator, new TestRequest(HttpMethod.POST, "/pets").body("text/plain", "Rex"), "/body");
+
+        child.remove("name");
+        child.put("age", new BigDecimal("-1"));
+        assertViolations(validator, new TestRequest(HttpMethod.POST, "/pets").body("application/json", pet),
+                "/body/children/0", "/body/children/0/age");
+    }
+
+    @Test
+    public void testDiscriminator() {
+        OpenAPI openAPI = createDocument();
+        openAPI.getComponents()
+                .addSchema("Cat", OASFactory.createSchema()
+                        .type(SchemaType.OBJECT)
+                        .addRequired("petType")
+                        .addProperty("petType", OASFactory.createSchema().type(SchemaType.STRING))
+                        .addProperty("lives", OASFactory.createSchema().type(SchemaType.INTEGER)))
+                .addSchema("Dog", OASFactory.createSchema()
+                        .type(SchemaType.OBJECT)
+                        .addRequired("petType")
+                        .addProperty("petType", OASFactory.createSchema().type(SchemaType.STRING))
+                        .addProperty("lives",
+                                OASFactory.createSchema().type(SchemaType.INTEGER).maximum(BigDecimal.ONE)));
+        openAPI.getPaths().addPathItem("/animals", OASFactory.createPathItem()
+                .POST(OASFactory.createOperation()
+                        .requestBody(OASFactory.createRequestBody()
+                                .content(OASFactory.createContent()
+                                        .addMediaType("application/json", OASFactory.createMediaType()
+                                                .schema(OASFactory.createSchema()
+                                                        .addOneOf(OASFactory.createSchema().ref("Cat"))
+                                                        .addOneOf(OASFactory.createSchema().ref("Dog"))
+                                                        .discriminator(OASFactory.createDiscriminator()
+                                                                .propertyName("petType")
+                                                                .addMapping("cat", "Cat"))))))));
+        OASRequestValidator validator = OASRequestValidator.compile(openAPI);
+
+        // Matches both alternatives, but the discriminator selects one of them
+        Map<String, Object> cat = new LinkedHashMap<>();
+        cat.put("petType", "cat");
+        cat.put("lives", new BigDecimal("1"));
+        assertValid(validator, new TestRequest(HttpMethod.POST, "/animals").body("application/json", cat));
+
+        Map<String, Object> dog = new LinkedHashMap<>();
+        dog.put("petType", "Dog");
+        dog.put("lives", new BigDecimal("9"));
+        assertViolations(validator, new TestRequest(HttpMethod.POST, "/animals").body("application/json", dog),
+                "/body/lives");
+        dog.put("petType", "wolf");
+        assertViolations(validator, new TestRequest(HttpMethod.POST, "/animals").body("application/json", dog),
+                "/body/petType");
+    }
+
+    @Test
+    public void testObjectAndContentParameters() {
+        OpenAPI openAPI = createDocument();
+        Schema range = OASFactory.createSchema()
+                .type(SchemaType.OBJECT)
+                .addProperty("from", OASFactory.createSchema().type(SchemaType.INTEGER))
+                .addProperty("to", OASFactory.createSchema().type(SchemaType.INTEGER).maximum(new BigDecimal("100")));
+        openAPI.getPaths().addPathItem("/search", OASFactory.createPathItem()
+                .GET(OASFactory.createOperation()
+                        .addParameter(OASFactory.createParameter()
+                                .name("range")
+                                .in(In.QUERY)
+                                .explode(false)
+                                .schema(range))
+                        .addParameter(OASFactory.createParameter()
+                                .name("X-Range")
+                                .in(In.HEADER)
+                                .explode(true)
+                                .schema(range))
+                        .addParameter(OASFactory.createParameter()
+                                .name("point")
+                                .in(In.QUERY)
+                                .required(true)
+                                .schema(range))
+                        .addParameter(OASFactory.createParameter()
+                                .name("filter")
+                                .in(In.QUERY)
+                                .style(Parameter.Style.DEEPOBJECT)
+                                .required(true)
+                                .schema(range))
+                        .addParameter(OASFactory.createParameter()
+                                .name("q")
+                                .in(In.QUERY)
+                                .required(true)
+                                .content(OASFactory.createContent()
+                                        .addMediaType("application/json", OASFactory.createMediaType()
+                                                .schema(range))))));
+        OASRequestValidator validator = OASRequestValidator.compile(openAPI);
+
+        // The exploded form and deepObject objects are sent as the parameters of their properties
+        assertValid(validator, new TestRequest(HttpMethod.GET, "/search")
+                .query("range", "from,1,to,10")
+                .header("X-Range", "from=1,to=10")
+                .query("from", "1")
+                .query("q", "{\"from\":1}"));
+        assertViolations(validator, new TestRequest(HttpMethod.GET, "/search")
+                .query("range", "from,1,to,1000")
+                .header("X-Range", "from=1,to=ten")
+                .query("q", "{\"from\":1}"),
+                "/header/X-Range/to", "/query/range/to");
+        assertViolations(validator, new TestRequest(HttpMethod.GET, "/search").query("range", "from,1,to"),
+                "/query/q", "/query/range");
+    }
+
+    @Test
+    public void testSharedReference() {
+        OpenAPI openAPI = createDocument();
+        // The same reference instance is used within its target, as after the deduplication of schemas
+        Schema node = OASFactory.createSchema().ref("Node");
+        openAPI.getComponents().addSchema("Node", OASFactory.createSchema()
+                .type(SchemaType.OBJECT)
+                .addProperty("value", OASFactory.createSchema().type(SchemaType.INTEGER))
+                .addProperty("next", node));
+        openAPI.getPaths().addPathItem("/nodes", OASFactory.createPathItem()
+                .POST(OASFactory.createOperation()
+                        .requestBody(OASFactory.createRequestBody()
+                                .content(OASFactory.createContent()
+                                        .addMediaType("application/json",
+                                                OASFactory.createMediaType().schema(node))))));
+        OASRequestValidator validator = OASRequestValidator.compile(openAPI);
+
+        Map<String, Object> next = new LinkedHashMap<>();
+        next.put("value", "two");
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("value", new BigDecimal("1"));
+        first.put("next", next);
+        assertViolations(validator, new TestRequest(HttpMethod.POST, "/nodes").body("application/json", first),
+                "/body/next/value");
+    }
+
+    @Test
+    public void testInvalidPattern() {
+        OpenAPI openAPI = createDocument();
+        openAPI.getComponents().getSchemas().get("Pet").getProperties().get("name").pattern("[");
+        try {
+            OASRequestValidator.compile(openAPI);
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        throw new AssertionError("An invalid pattern is expected to be reported when the document is compiled.");
+    }
+
+    private void assertValid(OASRequestValidator validator, TestRequest request) {
+        List<OASViolation> violations = validator.validate(request);
+        assertTrue(violations.isEmpty(), "Unexpected violations: " + violations);
+    }
+
+    private void assertViolations(OASRequestValidator validator, TestRequest request, String... pointers) {
+        List<String> actual = new ArrayList<>();
+        for (OASViolation violation : validator.validate(request)) {
+            actual.add(violation.getPointer());
+        }
+        Collections.sort(actual);
+        assertEquals(actual, Arrays.asList(pointers));
+    }
+
+    private OpenAPI createDocument() {
+        Schema pet = OASFactory.createSchema()
+                .type(SchemaType.OBJECT)
+                .addRequired("name")
+                .addProperty("name", OASFactory.createSchema().type(SchemaType.STRING).minLength(1))
+                .addProperty("age", OASFactory.createSchema().type(SchemaType.INTEGER).minimum(BigDecimal.ZERO))
+                .addProperty("tags", OASFactory.createSchema().type(SchemaType.ARRAY)
+                        .items(OASFactory.createSchema().type(SchemaType.STRING)))
+                .addProperty("children", OASFactory.createSchema().type(SchemaType.ARRAY)
+                        .items(OASFactory.createSchema().ref("Pet")));
+
+        return OASFactory.createOpenAPI()
+                .openapi("3.0.3")
+                .components(OASFactory.createComponents()
+                        .addSchema("Pet", pet)
+                        .addParameter("trace", OASFactory.createParameter()
+                                .name("X-Trace")
+                                .in(In.HEADER)
+                                .schema(OASFactory.createSchema().type(SchemaType.STRING).pattern("^[a-z0-9-]+$")))
+                        .addRequestBody("pet", OASFactory.createRequestBody()
+                                .required(true)
+                                .content(OASFactory.createContent()
+                                        .addMediaType("application/json", OASFactory.createMediaType()
+                                                .schema(OASFactory.createSchema().ref("Pet"))))))
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/pets", OASFactory.createPathItem()
+                                .GET(OASFactory.createOperation()
+                                        .addParameter(OASFactory.createParameter()
+                                                .name("limit")
+                                                .in(In.QUERY)
+                                                .schema(OASFactory.createSchema()
+                                                        .type(SchemaType.INTEGER)
+                                                        .maximum(new BigDecimal("100"))))
+                                        .addParameter(OASFactory.createParameter()
+                                                .name("tag")
+                                                .in(In.QUERY)
+                                                .explode(false)
+                                                .schema(OASFactory.createSchema()
+                                                        .type(SchemaType.ARRAY)
+                                                        .maxItems(2)
+                                                        .items(OASFactory.createSchema().type(SchemaType.STRING)))))
+                                .POST(OASFactory.createOperation()
+                                        .requestBody(OASFactory.createRequestBody().ref("pet"))))
+                        .addPathItem("/pets/{petId}", OASFactory.createPathItem()
+                                .addParameter(OASFactory.createParameter()
+                                        .name("petId")
+                                        .in(In.PATH)
+                                        .required(true)
+                                        .schema(OASFactory.createSchema().type(SchemaType.INTEGER)))
+                                .GET(OASFactory.createOperation()
+                                        .addParameter(OASFactory.createParameter().ref("trace"))))
+                        .addPathItem("/pets/mine", OASFactory.createPathItem()
+                                .GET(OASFactory.createOperation()
+                                        .addParameter(OASFactory.createParameter()
+                                                .name("status")
+                                                .in(In.QUERY)
+                                                .required(true)
+                                                .schema(OASFactory.createSchema()
+                                                        .type(SchemaType.STRING)
+                                                        .addEnumeration("available")
+                                                        .addEnumeration("sold"))))));
+    }
+
+    /**
+     * Request with query parameters, headers and an already parsed body.
+     */
+    private static final class TestRequest implements OASRequestValidator.Request {
+        private final HttpMethod method;
+        private final String path;
+        private final Map<String, List<String>> parameters = new HashMap<>();
+        private String mediaType;
+        private Object body;
+
+        TestRequest(HttpMethod method, String path) {
+            this.method = method;
+            this.path = path;
+        }
+
+        TestRequest query(String name, String value) {
+            parameters.computeIfAbsent(In.QUERY + name, k -> new ArrayList<>()).add(value);
+            return this;
+        }
+
+        TestRequest header(String name, String value) {
+            parameters.computeIfAbsent(In.HEADER + name.toLowerCase(), k -> new ArrayList<>()).add(value);
+            return this;
+        }
+
+        TestRequest body(String mediaType, Object body) {
+            this.mediaType = mediaType;
+            this.body = body;
+            return this;
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return method;
+        }
+
+        @Override
+        public String getPath() {
+            return path;
+        }
+
+        @Override
+        public List<String> getParameterValues(Parameter.In in, String name) {
+            return parameters.get(in + (in == In.HEADER ? name.toLowerCase() : name));
+        }
+
+        @Override
+        public String getMediaType() {
+            return mediaType;
+        }
+
+        @Override
+        public Object getBody() {
+            return body;
+        }
+    }
+}
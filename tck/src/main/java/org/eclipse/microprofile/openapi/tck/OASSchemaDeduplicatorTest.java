@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.eclipse.microprofile.openapi.OASDiff;
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.OASSchemaDeduplicator;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * Verifies the deduplication of schemas by {@link OASSchemaDeduplicator} on the implementation's model classes.
+ */
+public class OASSchemaDeduplicatorTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class);
+    }
+
+    @Test
+    public void testSharedSchemas() {
+        OpenAPI doc = createDocument();
+        assertEquals(OASSchemaDeduplicator.deduplicate(doc, 0), Collections.emptySet());
+        assertTrue(OASDiff.between(createDocument(), doc).isEmpty(),
+                "Deduplication without extraction must not change the document.");
+
+        Operation post = doc.getPaths().getPathItem("/pets").getPOST();
+        Operation put = doc.getPaths().getPathItem("/pets/{id}").getPUT();
+        assertSame(bodySchema(put), bodySchema(post), "Equivalent schemas are expected to be shared.");
+        assertSame(bodySchema(post).getProperties().get("born"), post.getParameters().get(0).getSchema(),
+                "Equivalent nested schemas are expected to be shared.");
+    }
+
+    @Test
+    public void testExtractedSchemas() {
+        OpenAPI doc = createDocument();
+        assertEquals(OASSchemaDeduplicator.deduplicate(doc, 2), Collections.singleton("Pet"));
+
+        Schema pet = doc.getComponents().getSchemas().get("Pet");
+        assertNotNull(pet, "The repeated schema is expected to be added to the components.");
+        assertEquals(pet.getProperties().keySet().size(), 2);
+        assertEquals(bodySchema(doc.getPaths().getPathItem("/pets").getPOST()).getRef(), "#/components/schemas/Pet");
+        assertEquals(bodySchema(doc.getPaths().getPathItem("/pets/{id}").getPUT()).getRef(),
+                "#/components/schemas/Pet");
+
+        Schema tree = doc.getComponents().getSchemas().get("Tree");
+        assertEquals(tree.getProperties().get("children").getItems().getRef(), "#/components/schemas/Tree",
+                "A recursive schema is expected to refer to itself.");
+    }
+
+    @Test
+    public void testThresholdNotReached() {
+        OpenAPI doc = createDocument();
+        assertEquals(OASSchemaDeduplicator.deduplicate(doc, 3), Collections.emptySet());
+        assertEquals(doc.getComponents().getSchemas().keySet(), Collections.singleton("Tree"));
+    }
+
+    @Test
+    public void testExistingComponent() {
+        OpenAPI doc = createDocument();
+        doc.getComponents()
+                .addSchema("Pet", createPet())
+                .addSchema("Timestamp", OASFactory.createSchema().type(Schema.SchemaType.STRING).format("date-time"));
+        assertEquals(OASSchemaDeduplicator.deduplicate(doc, 3), Collections.emptySet());
+        assertEquals(bodySchema(doc.getPaths().getPathItem("/pets").getPOST()).getRef(), "#/components/schemas/Pet",
+                "An inline schema equivalent to a component is expected to refer to it.");
+        assertNull(doc.getPaths().getPathItem("/pets").getPOST().getParameters().get(0).getSchema().getRef(),
+                "A string schema is not expected to be replaced by a reference.");
+
+        doc = createDocument();
+        doc.getComponents().addSchema("Pet", createPet());
+        OASSchemaDeduplicator.deduplicate(doc, 0);
+        assertNull(bodySchema(doc.getPaths().getPathItem("/pets").getPOST()).getRef(),
+                "No reference is expected to be added without an extraction threshold.");
+    }
+
+    private OpenAPI createDocument() {
+        Schema tree = OASFactory.createSchema().type(Schema.SchemaType.OBJECT);
+        tree.addProperty("children", OASFactory.createSchema().type(Schema.SchemaType.ARRAY).items(tree));
+        return OASFactory.createOpenAPI()
+                .openapi("3.0.3")
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/pets", OASFactory.createPathItem().POST(createOperation()))
+                        .addPathItem("/pets/{id}", OASFactory.createPathItem().PUT(createOperation())))
+                .components(OASFactory.createComponents().addSchema("Tree", tree));
+    }
+
+    private Schema createPet() {
+        return OASFactory.createSchema()
+                .type(Schema.SchemaType.OBJECT)
+                .title("Pet")
+                .addProperty("name", OASFactory.createSchema().type(Schema.SchemaType.STRING))
+                .addProperty("born", OASFactory.createSchema().type(Schema.SchemaType.STRING).format("date-time"));
+    }
+
+    private Operation createOperation() {
+        return OASFactory.createOperation()
+                .addParameter(OASFactory.createParameter()
+                        .name("since")
+                        .in(Parameter.In.QUERY)
+                        .schema(OASFactory.createSchema().type(Schema.SchemaType.STRING).format("date-time")))
+                .requestBody(OASFactory.createRequestBody()
+                        .content(OASFactory.createContent()
+                                .addMediaType("application/json", OASFactory.createMediaType().schema(createPet()))));
+    }
+
+    private Schema bodySchema(Operation operation) {
+        return operation.getRequestBody().getContent().getMediaType("application/json").getSchema();
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import org.eclipse.microprofile.openapi.OASDiff;
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.OASStringPool;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * Verifies that {@link OASStringPool} shares the strings of the implementation's model classes.
+ */
+public class OASStringPoolTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class);
+    }
+
+    @Test
+    public void testIntern() {
+        OASStringPool pool = new OASStringPool(2);
+        String json = pool.intern(new String("application/json"));
+        assertSame(pool.intern(new String("application/json")), json);
+        assertSame(pool.intern(new String("200")), pool.intern(new String("200")));
+
+        String full = new String("404");
+        assertSame(pool.intern(full), full, "A full pool is expected to return new strings as is.");
+        assertEquals(pool.size(), 2);
+    }
+
+    @Test
+    public void testInternAll() {
+        OpenAPI doc = createDocument();
+        new OASStringPool().internAll(doc);
+        assertTrue(OASDiff.between(createDocument(), doc).isEmpty(), "Pooling must not change the document.");
+
+        Operation get = doc.getPaths().getPathItem("/pets").getGET();
+        Operation post = doc.getPaths().getPathItem("/pets").getPOST();
+        assertSame(responseCode(post), responseCode(get), "Map keys are expected to be pooled.");
+        assertSame(mediaType(post), mediaType(get), "Map keys are expected to be pooled.");
+        assertSame(post.getResponses().getAPIResponse("200").getDescription(),
+                get.getResponses().getAPIResponse("200").getDescription(),
+                "Property values are expected to be pooled.");
+        assertNotSame(post.getOperationId(), get.getOperationId());
+    }
+
+    private OpenAPI createDocument() {
+        return OASFactory.createOpenAPI()
+                .openapi("3.0.3")
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/pets", OASFactory.createPathItem()
+                                .GET(createOperation("getPets"))
+                                .POST(createOperation("addPet"))));
+    }
+
+    private Operation createOperation(String operationId) {
+        // Distinct instances of equal strings, as produced by a parser
+        return OASFactory.createOperation()
+                .operationId(operationId)
+                .responses(OASFactory.createAPIResponses()
+                        .addAPIResponse(new String("200"), OASFactory.createAPIResponse()
+                                .description(new String("Success"))
+                                .content(OASFactory.createContent()
+                                        .addMediaType(new String("application/json"), OASFactory.createMediaType()
+                                                .schema(OASFactory.createSchema().ref(new String("Pet")))))));
+    }
+
+    private String responseCode(Operation operation) {
+        return operation.getResponses().getAPIResponses().keySet().iterator().next();
+    }
+
+    private String mediaType(Operation operation) {
+        return operation.getResponses().getAPIResponse("200").getContent().getMediaTypes().keySet().iterator().next();
+    }
+}
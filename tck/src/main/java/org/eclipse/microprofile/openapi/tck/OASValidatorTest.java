@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.microprofile.openapi.OASDiff;
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.OASValidator;
+import org.eclipse.microprofile.openapi.OASViolation;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter.In;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * Verifies that {@link OASValidator} validates documents built from the implementation's model classes.
+ */
+public class OASValidatorTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class);
+    }
+
+    @Test
+    public void testValidDocument() {
+        List<OASViolation> violations = new OASValidator().validate(createDocument());
+        assertTrue(violations.isEmpty(), "Unexpected violations: " + violations);
+    }
+
+    @Test
+    public void testViolations() {
+        OpenAPI doc = createDocument();
+        doc.getInfo().title(null);
+        doc.getPaths().getPathItem("/owners").getGET().operationId("getPet");
+        doc.getPaths().getPathItem("/owners").getGET()
+                .addParameter(OASFactory.createParameter().ref("#/components/schemas/Pet"))
+                .addParameter(OASFactory.createParameter().ref("missing"));
+        doc.getPaths().addPathItem("/owners/{ownerId}/pets/{petId}", OASFactory.createPathItem()
+                .GET(OASFactory.createOperation()
+                        .addParameter(OASFactory.createParameter().name("ownerId").in(In.PATH).required(false))
+                        .addParameter(OASFactory.createParameter().name("id").in(In.PATH).required(true))
+                        .addSecurityRequirement(OASFactory.createSecurityRequirement().addScheme("oauth"))));
+
+        assertViolations(new OASValidator().validate(doc),
+                "/info/title",
+                "/paths/~1owners/get",
+                "/paths/~1owners/get/parameters/0/$ref",
+                "/paths/~1owners/get/parameters/1/$ref",
+                "/paths/~1owners~1{ownerId}~1pets~1{petId}/get",
+                "/paths/~1owners~1{ownerId}~1pets~1{petId}/get/parameters/0/required",
+                "/paths/~1owners~1{ownerId}~1pets~1{petId}/get/parameters/1",
+                "/paths/~1owners~1{ownerId}~1pets~1{petId}/get/responses",
+                "/paths/~1owners~1{ownerId}~1pets~1{petId}/get/security/0/oauth");
+    }
+
+    @Test
+    public void testRevalidateChangedPointers() {
+        OpenAPI doc = createDocument();
+        OASValidator validator = new OASValidator();
+        assertViolations(validator.validate(doc));
+
+        doc.getComponents().removeSchema("Pet");
+        assertViolations(validator.revalidate(doc, Collections.singleton("/components/schemas/Pet")),
+                "/paths/~1owners/get/responses/200/content/application~1json/schema/$ref",
+                "/paths/~1pets~1{petId}/get/responses/200/content/application~1json/schema/$ref");
+
+        // Changes which are not reported are not seen until the changed element is revalidated
+        doc.getInfo().title(null);
+        doc.getComponents().addSchema("Pet", OASFactory.createSchema().type(SchemaType.OBJECT));
+        assertViolations(validator.revalidate(doc, Collections.singleton("/components/schemas/Pet")));
+        assertViolations(validator.revalidate(doc, Collections.singleton("/info/title")), "/info/title");
+    }
+
+    @Test
+    public void testRevalidateDiff() {
+        OpenAPI previous = createDocument();
+        OASValidator validator = new OASValidator();
+        validator.validate(previous);
+
+        OpenAPI current = createDocument();
+        current.getPaths().getPathItem("/pets/{petId}").getGET().parameters(null);
+        current.getPaths().getPathItem("/owners").getGET().operationId("getPet");
+        List<OASViolation> violations = validator.revalidate(current, OASDiff.between(previous, current));
+        assertViolations(violations, "/paths/~1owners/get", "/paths/~1pets~1{petId}/get");
+        assertEquals(violations, new OASValidator().validate(current));
+    }
+
+    private void assertViolations(List<OASViolation> violations, String... pointers) {
+        List<String> actual = new ArrayList<>();
+        for (OASViolation violation : violations) {
+            actual.add(violation.getPointer());
+        }
+        Collections.sort(actual);
+        assertEquals(actual, Arrays.asList(pointers), "Violations: " + violations);
+    }
+
+    private OpenAPI createDocument() {
+        return OASFactory.createOpenAPI()
+                .openapi("3.0.3")
+                .info(OASFactory.createInfo().title("Pets").version("1.0"))
+                .components(OASFactory.createComponents()
+                        .addSchema("Pet", OASFactory.createSchema().type(SchemaType.OBJECT))
+                        .addParameter("petId", OASFactory.createParameter()
+                                .name("petId")
+                                .in(In.PATH)
+                                .required(true)
+                                .schema(OASFactory.createSchema().type(SchemaType.INTEGER)))
+                        .addSecurityScheme("apiKey", OASFactory.createSecurityScheme()
+                                .type(SecurityScheme.Type.APIKEY)
+                                .name("X-API-Key")
+                                .in(SecurityScheme.In.HEADER)))
+                .addSecurityRequirement(OASFactory.createSecurityRequirement().addScheme("apiKey"))
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/pets/{petId}", OASFactory.createPathItem()
+                                .GET(createOperation("getPet")
+                                        .addParameter(OASFactory.createParameter().ref("petId"))))
+                        .addPathItem("/owners", OASFactory.createPathItem()
+                                .GET(createOperation("getOwners"))));
+    }
+
+    private Operation createOperation(String operationId) {
+        return OASFactory.createOperation()
+                .operationId(operationId)
+                .responses(OASFactory.createAPIResponses()
+                        .addAPIResponse("200", OASFactory.createAPIResponse()
+                                .description("OK")
+                                .content(OASFactory.createContent()
+                                        .addMediaType("application/json", OASFactory.createMediaType()
+                                                .schema(OASFactory.createSchema().ref("Pet"))))));
+    }
+}
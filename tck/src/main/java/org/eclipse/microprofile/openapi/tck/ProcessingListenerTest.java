@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static io.restassured.RestAssured.given;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.OASProcessingListener.Step;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.http.ContentType;
+
+/**
+ * Verifies the calls made to an {@link org.eclipse.microprofile.openapi.OASProcessingListener} registered for the
+ * filtered airlines application. The calls are recorded by the application and read from its
+ * <code>/processing-events</code> resource.
+ */
+public class ProcessingListenerTest extends AppTestBase {
+
+    @Deployment(name = "airlinesListener", testable = false)
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "airlinesListener.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.airlines")
+                .addPackages(true, "org.eclipse.microprofile.openapi.filter")
+                .addPackages(true, "org.eclipse.microprofile.openapi.listener")
+                .addAsManifestResource("openapi.yaml", "openapi.yaml")
+                .addAsManifestResource("microprofile-config-listener.properties", "microprofile-config.properties");
+    }
+
+    @Test
+    public void testSteps() {
+        List<String> started = new ArrayList<>();
+        Map<Step, Integer> startIndex = new HashMap<>();
+        Map<Step, Integer> completeIndex = new HashMap<>();
+        List<String> events = events();
+        for (int i = 0; i < events.size(); i++) {
+            String[] parts = events.get(i).split(" ");
+            if (parts[0].equals("started")) {
+                started.add(parts[1]);
+                startIndex.putIfAbsent(Step.valueOf(parts[1]), i);
+            } else if (parts[0].equals("completed")) {
+                completeIndex.putIfAbsent(Step.valueOf(parts[1]), i);
+            }
+        }
+        List<String> expected = new ArrayList<>();
+        for (Step step : Step.values()) {
+            expected.add(step.name());
+        }
+        assertEquals(started.subList(0, Math.min(started.size(), expected.size())), expected,
+                "Each processing step is expected to be started once, in order.");
+        for (Step step : Step.values()) {
+            assertTrue(completeIndex.containsKey(step) && completeIndex.get(step) > startIndex.get(step),
+                    "The step " + step + " is expected to be completed after it is started.");
+            if (step != Step.FILTER) {
+                assertTrue(completeIndex.get(step) < startIndex.get(Step.FILTER),
+                        "The step " + step + " is expected to be completed before the filter step is started.");
+            }
+        }
+    }
+
+    @Test
+    public void testStepCompleted() {
+        Map<Step, long[]> completed = completedSteps();
+        for (Step step : Step.values()) {
+            long[] values = completed.get(step);
+            assertTrue(values != null, "The step " + step + " was not reported as completed.");
+            assertTrue(values[0] >= 0, "The duration of the step " + step + " is negative.");
+            assertTrue(values[1] >= 0, "The number of model nodes of the step " + step + " is negative.");
+        }
+        assertTrue(completed.get(Step.STATIC_FILE)[1] > 0,
+                "The model nodes created for the static file are expected to be counted.");
+        assertTrue(completed.get(Step.ANNOTATIONS)[1] > 0,
+                "The model nodes created for the annotations are expected to be counted.");
+    }
+
+    @Test
+    public void testFilterInvocations() {
+        Map<String, Long> invocations = new HashMap<>();
+        for (String event : events()) {
+            if (event.startsWith("filtered")) {
+                for (String entry : event.substring("filtered".length()).trim().split(" ")) {
+                    String[] parts = entry.split("=");
+                    invocations.put(parts[0], Long.valueOf(parts[1]));
+                }
+                break;
+            }
+        }
+        assertEquals(invocations.get("OpenAPI"), Long.valueOf(1), "filterOpenAPI is expected to be called once.");
+        for (String type : Arrays.asList("PathItem", "Operation", "Parameter", "APIResponse", "Schema", "Server",
+                "Tag")) {
+            Long count = invocations.get(type);
+            assertTrue(count != null && count > 0, "The calls to the filter for " + type + " were not reported.");
+        }
+    }
+
+    @Test
+    public void testDocumentRendered() {
+        byte[] json = given().accept(ContentType.JSON).when().get("/openapi").then().statusCode(200).extract()
+                .asByteArray();
+        boolean reported = false;
+        for (String event : events()) {
+            String[] parts = event.split(" ");
+            if (parts[0].equals("rendered") && parts[1].startsWith("application/json")
+                    && Long.parseLong(parts[2]) == json.length) {
+                reported = true;
+            }
+        }
+        assertTrue(reported, "The size of the JSON document, " + json.length + " bytes, was not reported.");
+    }
+
+    private Map<Step, long[]> completedSteps() {
+        Map<Step, long[]> completed = new HashMap<>();
+        for (String event : events()) {
+            String[] parts = event.split(" ");
+            if (parts[0].equals("completed")) {
+                completed.putIfAbsent(Step.valueOf(parts[1]),
+                        new long[]{Long.parseLong(parts[2]), Long.parseLong(parts[3])});
+            }
+        }
+        return completed;
+    }
+
+    private List<String> events() {
+        // Make sure that the document has been built
+        callEndpoint("JSON");
+        String events = new String(given().accept(ContentType.TEXT).when().get("/processing-events").then()
+                .statusCode(200).extract().asByteArray(), StandardCharsets.UTF_8);
+        return Arrays.asList(events.split("\n"));
+    }
+}
@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+import org.eclipse.microprofile.openapi.models.media.SchemaGraph;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * Verifies that {@link SchemaGraph} traverses recursive graphs of the implementation's schemas.
+ */
+public class SchemaGraphTest extends Arquillian {
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class);
+    }
+
+    @Test
+    public void testInlineRecursion() {
+        Schema node = OASFactory.createSchema().type(SchemaType.OBJECT);
+        Schema children = OASFactory.createSchema().type(SchemaType.ARRAY).items(node);
+        node.addProperty("name", OASFactory.createSchema().type(SchemaType.STRING));
+        node.addProperty("children", children);
+
+        List<Schema> visited = new ArrayList<>();
+        SchemaGraph graph = new SchemaGraph();
+        graph.forEachSchema(node, visited::add);
+        assertEquals(visited.size(), 3);
+        assertSame(visited.get(0), node);
+        assertTrue(graph.isRecursive(node));
+        assertTrue(graph.isRecursive(children));
+        assertFalse(graph.isRecursive(node.getProperties().get("name")));
+    }
+
+    @Test
+    public void testReferences() {
+        Map<String, Schema> components = new LinkedHashMap<>();
+        components.put("Tree", OASFactory.createSchema()
+                .type(SchemaType.OBJECT)
+                .addProperty("left", OASFactory.createSchema().ref("Tree"))
+                .addProperty("right", OASFactory.createSchema().ref("Tree")));
+        components.put("Leaf", OASFactory.createSchema().type(SchemaType.STRING));
+        components.put("Alias", OASFactory.createSchema().ref("Leaf"));
+        SchemaGraph graph = new SchemaGraph(components);
+
+        assertSame(graph.resolve(OASFactory.createSchema().ref("Alias")), components.get("Leaf"));
+        Schema missing = OASFactory.createSchema().ref("Missing");
+        assertSame(graph.resolve(missing), missing);
+        assertTrue(graph.isRecursive(components.get("Tree")));
+        assertFalse(graph.isRecursive(components.get("Alias")));
+        assertFalse(new SchemaGraph().isRecursive(components.get("Tree")),
+                "References are not expected to be followed without components.");
+
+        List<Schema> visited = new ArrayList<>();
+        graph.forEachSchema(components.get("Tree"), visited::add);
+        assertEquals(visited, Arrays.asList(components.get("Tree")));
+    }
+
+    @Test
+    public void testDeepGraph() {
+        Schema root = OASFactory.createSchema().type(SchemaType.ARRAY);
+        Schema current = root;
+        for (int i = 0; i < 20000; i++) {
+            Schema next = OASFactory.createSchema().type(SchemaType.ARRAY);
+            current.items(next);
+            current = next;
+        }
+        int[] count = new int[1];
+        SchemaGraph graph = new SchemaGraph();
+        graph.forEachSchema(root, schema -> count[0]++);
+        assertEquals(count[0], 20001);
+        assertFalse(graph.isRecursive(root));
+        current.items(root);
+        assertTrue(graph.isRecursive(root));
+    }
+
+    @Test
+    public void testFlattenedAllOf() {
+        Map<String, Schema> components = new LinkedHashMap<>();
+        components.put("Named", OASFactory.createSchema()
+                .addRequired("name")
+                .addProperty("name", OASFactory.createSchema().type(SchemaType.STRING)));
+        components.put("Pet", OASFactory.createSchema()
+                .addAllOf(OASFactory.createSchema().ref("Named"))
+                .addRequired("type")
+                .addProperty("type", OASFactory.createSchema().type(SchemaType.STRING)));
+        Schema cat = OASFactory.createSchema()
+                .addAllOf(OASFactory.createSchema().ref("Pet"))
+                .addAllOf(OASFactory.createSchema()
+                        .addProperty("name", OASFactory.createSchema().type(SchemaType.STRING).minLength(1))
+                        .addProperty("indoor", OASFactory.createSchema().type(SchemaType.BOOLEAN)))
+                .addAllOf(OASFactory.createSchema().ref("Named"));
+        components.put("Cat", cat);
+        SchemaGraph graph = new SchemaGraph(components);
+
+        List<Schema> allOf = graph.getAllOf(OASFactory.createSchema().ref("Cat"));
+        assertEquals(allOf.size(), 4);
+        assertSame(allOf.get(0), cat);
+        assertSame(allOf.get(1), components.get("Pet"));
+        assertSame(allOf.get(2), cat.getAllOf().get(1));
+        assertSame(allOf.get(3), components.get("Named"));
+        assertSame(graph.getAllOf(cat), allOf, "The flattened view is expected to be cached.");
+
+        Map<String, Schema> properties = graph.getAllProperties(cat);
+        assertEquals(new ArrayList<>(properties.keySet()), Arrays.asList("type", "name", "indoor"));
+        assertSame(properties.get("name"), cat.getAllOf().get(1).getProperties().get("name"),
+                "The definition of the most derived schema is expected.");
+        assertEquals(new ArrayList<>(graph.getAllRequired(cat)), Arrays.asList("type", "name"));
+
+        components.get("Pet").addRequired("age");
+        assertEquals(graph.getAllRequired(cat).size(), 2);
+        graph.clear();
+        assertEquals(graph.getAllRequired(cat).size(), 3);
+    }
+
+    @Test
+    public void testMostDerivedDiscriminator() {
+        Map<String, Schema> components = new LinkedHashMap<>();
+        components.put("Base", OASFactory.createSchema()
+                .discriminator(OASFactory.createDiscriminator().propertyName("kind")));
+        components.put("Animal", OASFactory.createSchema().addAllOf(OASFactory.createSchema().ref("Base")));
+        Schema pet = OASFactory.createSchema()
+                .addAllOf(OASFactory.createSchema().ref("Animal"))
+                .addAllOf(OASFactory.createSchema()
+                        .discriminator(OASFactory.createDiscriminator().propertyName("petType")));
+        SchemaGraph graph = new SchemaGraph(components);
+
+        assertEquals(graph.getDiscriminator(pet).getPropertyName(), "petType",
+                "The discriminator of the closest schema is expected, not the one of an ancestor of a first member.");
+    }
+
+    @Test
+    public void testDiscriminatorMapping() {
+        Map<String, Schema> components = new LinkedHashMap<>();
+        components.put("Cat", OASFactory.createSchema().addProperty("meow", OASFactory.createSchema()));
+        components.put("Dog", OASFactory.createSchema().addProperty("bark", OASFactory.createSchema()));
+        components.put("Lizard", OASFactory.createSchema().addProperty("lovesRocks", OASFactory.createSchema()));
+        Schema pet = OASFactory.createSchema()
+                .addOneOf(OASFactory.createSchema().ref("Cat"))
+                .addOneOf(OASFactory.createSchema().ref("Dog"))
+                .addOneOf(OASFactory.createSchema().ref("Lizard"))
+                .discriminator(OASFactory.createDiscriminator()
+                        .propertyName("petType")
+                        .addMapping("dog", "#/components/schemas/Dog")
+                        .addMapping("lizard", "Lizard")
+                        .addMapping("other", "https://example.com/schemas/Other.json"));
+        components.put("Pet", pet);
+        SchemaGraph graph = new SchemaGraph(components);
+
+        Map<String, Schema> mapping = graph.getDiscriminatorMapping(OASFactory.createSchema().ref("Pet"));
+        assertEquals(new ArrayList<>(mapping.keySet()), Arrays.asList("dog", "lizard", "Cat", "Dog", "Lizard"));
+        assertSame(graph.getDiscriminatorTarget(pet, "dog"), components.get("Dog"));
+        assertSame(graph.getDiscriminatorTarget(pet, "Cat"), components.get("Cat"));
+        assertEquals(graph.getDiscriminatorTarget(pet, "other"), null);
+        assertSame(graph.getDiscriminatorMapping(pet), mapping, "The mapping is expected to be cached.");
+        assertTrue(graph.getDiscriminatorMapping(components.get("Cat")).isEmpty());
+    }
+
+    @Test
+    public void testInheritedDiscriminatorMapping() {
+        Map<String, Schema> components = new LinkedHashMap<>();
+        Schema vehicle = OASFactory.createSchema()
+                .addProperty("kind", OASFactory.createSchema().type(SchemaType.STRING))
+                .discriminator(OASFactory.createDiscriminator().propertyName("kind").addMapping("bike", "Bicycle"));
+        components.put("Vehicle", vehicle);
+        components.put("Car", OASFactory.createSchema().addAllOf(OASFactory.createSchema().ref("Vehicle")));
+        components.put("Bicycle", OASFactory.createSchema().addAllOf(OASFactory.createSchema().ref("Vehicle")));
+        components.put("Wheel", OASFactory.createSchema().type(SchemaType.OBJECT));
+        SchemaGraph graph = new SchemaGraph(components);
+
+        assertSame(graph.getDiscriminator(components.get("Car")), vehicle.getDiscriminator());
+        Map<String, Schema> mapping = graph.getDiscriminatorMapping(vehicle);
+        assertEquals(new ArrayList<>(mapping.keySet()), Arrays.asList("bike", "Vehicle", "Car", "Bicycle"));
+        assertSame(mapping.get("bike"), components.get("Bicycle"));
+        assertEquals(graph.getDiscriminatorMapping(components.get("Car")), mapping);
+    }
+}
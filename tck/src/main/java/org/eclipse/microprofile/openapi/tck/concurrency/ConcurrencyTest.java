@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck.concurrency;
+
+import static io.restassured.RestAssured.given;
+import static org.eclipse.microprofile.openapi.tck.Groups.CONCURRENCY;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+
+import org.eclipse.microprofile.openapi.countingfilter.CountingOASFilter;
+import org.eclipse.microprofile.openapi.tck.AppTestBase;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Reporter;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+
+/**
+ * Sends many concurrent JSON and YAML requests to the /openapi endpoint of the airlines application, filtered with the
+ * {@link CountingOASFilter}, and verifies that every response is complete and identical to the first response in the
+ * same format. The filter records the number of times it has been run in the document, so an implementation which runs
+ * the filter again for each request, or which modifies a shared model while it is served, fails this test.
+ * <p>
+ * The throughput and the 99th percentile latency are written to the TestNG report. The load can be changed with system
+ * properties:
+ * <ul>
+ * <li>{@code mp.openapi.tck.concurrency.threads}, the number of concurrent clients (default 16)</li>
+ * <li>{@code mp.openapi.tck.concurrency.requests}, the total number of requests (default 800)</li>
+ * <li>{@code mp.openapi.tck.concurrency.maxP99Millis}, if set, the maximum 99th percentile latency</li>
+ * </ul>
+ */
+public class ConcurrencyTest extends AppTestBase {
+
+    private static final int THREADS = Integer.getInteger("mp.openapi.tck.concurrency.threads", 16);
+    private static final int REQUESTS = Integer.getInteger("mp.openapi.tck.concurrency.requests", 800);
+    private static final Long MAX_P99_MILLIS = Long.getLong("mp.openapi.tck.concurrency.maxP99Millis");
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
+
+    @Deployment(name = "airlinesConcurrency", testable = false)
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "airlinesConcurrency.war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.airlines")
+                .addPackages(true, "org.eclipse.microprofile.openapi.filter")
+                .addPackages(true, "org.eclipse.microprofile.openapi.countingfilter")
+                .addAsManifestResource("openapi.yaml", "openapi.yaml")
+                .addAsManifestResource("microprofile-config-counting-filter.properties",
+                        "microprofile-config.properties");
+    }
+
+    @Test(groups = CONCURRENCY)
+    public void testConcurrentRequests() throws Exception {
+        String json = get(ContentType.JSON).asString();
+        String yaml = get(ContentType.ANY).asString();
+        assertComplete(json, yaml);
+
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>(REQUESTS));
+        // The time at which the last response was received, so that the client side assertions are not measured
+        LongAccumulator end = new LongAccumulator(Math::max, Long.MIN_VALUE);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long elapsed;
+        try {
+            List<Future<String>> jsonResponses = new ArrayList<>();
+            List<Future<String>> yamlResponses = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                final ContentType type = i % 2 == 0 ? ContentType.JSON : ContentType.ANY;
+                Future<String> response = executor.submit(() -> {
+                    start.await();
+                    long begin = System.nanoTime();
+                    Response r = get(type);
+                    long received = System.nanoTime();
+                    latencies.add(received - begin);
+                    end.accumulate(received);
+                    return r.asString();
+                });
+                (type == ContentType.JSON ? jsonResponses : yamlResponses).add(response);
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            assertResponses(jsonResponses, json, JSON_MAPPER, "JSON");
+            assertResponses(yamlResponses, yaml, YAML_MAPPER, "YAML");
+            elapsed = end.get() - begin;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        long p99 = TimeUnit.NANOSECONDS.toMillis(sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1));
+        double throughput = REQUESTS / (elapsed / 1e9);
+        Reporter.log(String.format("/openapi: %d requests from %d threads, %.1f requests/s, p99 latency %d ms",
+                REQUESTS, THREADS, throughput, p99), true);
+        if (MAX_P99_MILLIS != null) {
+            assertTrue(p99 <= MAX_P99_MILLIS,
+                    "The p99 latency is " + p99 + " ms, more than " + MAX_P99_MILLIS + " ms.");
+        }
+    }
+
+    private Response get(ContentType type) {
+        // It seems there is no standard for YAML, see callEndpoint
+        return given().accept(type).when().get("/openapi").then().statusCode(200).extract().response();
+    }
+
+    private void assertResponses(List<Future<String>> responses, String expected, ObjectMapper mapper,
+            String format) throws InterruptedException, IOException {
+        for (int i = 0; i < responses.size(); i++) {
+            String actual;
+            try {
+                actual = responses.get(i).get();
+            } catch (ExecutionException e) {
+                throw new AssertionError(format + " request " + i + " failed", e.getCause());
+            }
+            assertEquals(mapper.readTree(actual).path(CountingOASFilter.RUNS_EXTENSION).asInt(), 1,
+                    "The filter is expected to have been run once when " + format + " response " + i + " was served.");
+            assertEquals(actual, expected, format + " response " + i + " differs from the first " + format
+                    + " response.");
+        }
+    }
+
+    private void assertComplete(String json, String yaml) throws IOException {
+        JsonNode document = JSON_MAPPER.readTree(json);
+        assertEquals(YAML_MAPPER.readTree(yaml), document,
+                "The JSON and YAML documents are expected to be equivalent.");
+        for (String path : Arrays.asList("/bookings", "/bookings/{id}", "/availability")) {
+            assertTrue(document.path("paths").has(path), "The document is expected to contain the path " + path);
+        }
+        assertEquals(document.path("paths").path("/bookings/{id}").path("put").path("summary").asText(),
+                "filterOpenAPI - Update a booking with ID", "The document is expected to be filtered.");
+        // The filter increments this extension each time it is run
+        assertEquals(document.path(CountingOASFilter.RUNS_EXTENSION).asInt(), 1,
+                "The filter is expected to have been run exactly once.");
+        assertEquals(document.path("servers").size(), 2);
+    }
+}
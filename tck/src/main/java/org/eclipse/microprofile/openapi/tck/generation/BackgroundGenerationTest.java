@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck.generation;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * Verifies that the document is generated once, and that requests receive the complete document, when
+ * <code>mp.openapi.generation</code> is <code>background</code>. Requests sent while the document is generated may be
+ * answered with the status 503 and a <code>Retry-After</code> header, and are then sent again.
+ */
+public class BackgroundGenerationTest extends GenerationTestBase {
+
+    @Deployment(name = "airlinesBackground", testable = false)
+    public static WebArchive createDeployment() {
+        return createDeployment("airlinesBackground", "microprofile-config-background.properties");
+    }
+
+    @Test
+    public void testBackgroundGeneration() throws Exception {
+        assertConcurrentRequests(true);
+    }
+}
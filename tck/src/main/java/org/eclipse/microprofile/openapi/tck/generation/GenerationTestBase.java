@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck.generation;
+
+import static io.restassured.RestAssured.given;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.OASProcessingListener.Step;
+import org.eclipse.microprofile.openapi.tck.AppTestBase;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+
+import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+
+/**
+ * Base class of the tests of deferred generation. The filtered airlines application is deployed with the
+ * {@link org.eclipse.microprofile.openapi.listener.RecordingProcessingListener}, so that the processing steps performed
+ * by the vendor can be read from the <code>/processing-events</code> resource of the application.
+ */
+public abstract class GenerationTestBase extends AppTestBase {
+
+    private static final int CONCURRENT_REQUESTS = 8;
+    private static final int MAX_ATTEMPTS = 60;
+    private static final long MIN_RETRY_DELAY_MILLIS = 100;
+
+    static WebArchive createDeployment(String name, String config) {
+        return ShrinkWrap.create(WebArchive.class, name + ".war")
+                .addPackages(true, "org.eclipse.microprofile.openapi.apps.airlines")
+                .addPackages(true, "org.eclipse.microprofile.openapi.filter")
+                .addPackages(true, "org.eclipse.microprofile.openapi.listener")
+                .addAsManifestResource("openapi.yaml", "openapi.yaml")
+                .addAsManifestResource(config, "microprofile-config.properties");
+    }
+
+    /**
+     * Returns the calls recorded by the listener so far, without requesting the document.
+     *
+     * @return the recorded calls
+     */
+    List<String> events() {
+        String events = new String(given().accept(ContentType.TEXT).when().get("/processing-events").then()
+                .statusCode(200).extract().asByteArray(), StandardCharsets.UTF_8);
+        return events.isEmpty() ? new ArrayList<>() : Arrays.asList(events.split("\n"));
+    }
+
+    /**
+     * Sends concurrent requests for the JSON document, verifies that the responses are complete and identical, and that
+     * the document was generated once.
+     *
+     * @param retry
+     *            whether a request may be answered with the status 503 and a <code>Retry-After</code> header, in which
+     *            case it is sent again after the given delay
+     */
+    void assertConcurrentRequests(boolean retry) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        List<String> responses = new ArrayList<>();
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return getDocument(retry);
+                }));
+            }
+            start.countDown();
+            for (Future<String> future : futures) {
+                try {
+                    responses.add(future.get());
+                } catch (ExecutionException e) {
+                    throw new AssertionError("A request for the document failed", e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (String response : responses) {
+            assertEquals(response, responses.get(0), "Every request is expected to receive the same document.");
+        }
+        JsonPath document = new JsonPath(responses.get(0));
+        assertEquals(document.getString("paths.'/bookings/{id}'.put.summary"),
+                "filterOpenAPI - Update a booking with ID", "The document is expected to be filtered.");
+        assertTrue(document.getMap("paths").containsKey("/availability"),
+                "The document is expected to contain the annotated paths.");
+
+        List<String> events = events();
+        for (Step step : Step.values()) {
+            assertEquals(events.stream().filter(e -> e.equals("started " + step)).count(), 1L,
+                    "The step " + step + " is expected to be performed once.");
+        }
+    }
+
+    private String getDocument(boolean retry) throws InterruptedException {
+        for (int attempt = 1;; attempt++) {
+            Response response = given().accept(ContentType.JSON).when().get("/openapi");
+            if (retry && response.statusCode() == 503 && attempt < MAX_ATTEMPTS) {
+                String retryAfter = response.header("Retry-After");
+                assertNotNull(retryAfter, "A 503 response is expected to have a Retry-After header.");
+                long seconds = Long.parseLong(retryAfter.trim());
+                Thread.sleep(Math.max(TimeUnit.SECONDS.toMillis(seconds), MIN_RETRY_DELAY_MILLIS));
+                continue;
+            }
+            response.then().statusCode(200);
+            return response.asString();
+        }
+    }
+
+    static boolean isStarted(List<String> events, Step step) {
+        return events.contains("started " + step);
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck.generation;
+
+import static org.testng.Assert.assertFalse;
+
+import java.util.List;
+
+import org.eclipse.microprofile.openapi.OASProcessingListener.Step;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * Verifies that the document is generated once, on the first request, when <code>mp.openapi.generation</code> is
+ * <code>lazy</code>.
+ */
+public class LazyGenerationTest extends GenerationTestBase {
+
+    @Deployment(name = "airlinesLazy", testable = false)
+    public static WebArchive createDeployment() {
+        return createDeployment("airlinesLazy", "microprofile-config-lazy.properties");
+    }
+
+    @Test
+    public void testLazyGeneration() throws Exception {
+        List<String> events = events();
+        for (Step step : new Step[]{Step.MODEL_READER, Step.STATIC_FILE, Step.ANNOTATIONS, Step.FILTER}) {
+            assertFalse(isStarted(events, step),
+                    "The step " + step + " is not expected to be performed before the first request.");
+        }
+        assertConcurrentRequests(false);
+    }
+}
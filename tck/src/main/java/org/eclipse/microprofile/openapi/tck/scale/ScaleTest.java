@@ -0,0 +1,221 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck.scale;
+
+import static io.restassured.RestAssured.given;
+import static org.eclipse.microprofile.openapi.tck.Groups.BEAN_VALIDATION;
+import static org.eclipse.microprofile.openapi.tck.Groups.SCALE;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.openapi.tck.AppTestBase;
+import org.eclipse.microprofile.openapi.tck.utils.SyntheticApp;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.restassured.http.ContentType;
+
+/**
+ * Deploys a large generated application and verifies the generated document, the time until it is first served and its
+ * size. The size of the application and the bounds can be changed with system properties:
+ * <ul>
+ * <li>{@code mp.openapi.tck.scale.resources}, the number of resource classes (default 250)</li>
+ * <li>{@code mp.openapi.tck.scale.operations}, the number of operations per resource class (default 20)</li>
+ * <li>{@code mp.openapi.tck.scale.dtoDepth}, the nesting depth of the DTO classes (default 3)</li>
+ * <li>{@code mp.openapi.tck.scale.maxResponseMillis}, the maximum time for the first /openapi response (default
+ * 30000)</li>
+ * <li>{@code mp.openapi.tck.scale.maxBytesPerOperation}, the maximum size of the JSON document per operation (default
+ * 4096)</li>
+ * </ul>
+ */
+public class ScaleTest extends AppTestBase {
+
+    private static final SyntheticApp APP = new SyntheticApp()
+            .resources(Integer.getInteger("mp.openapi.tck.scale.resources", 250))
+            .operations(Integer.getInteger("mp.openapi.tck.scale.operations", 20))
+            .dtoDepth(Integer.getInteger("mp.openapi.tck.scale.dtoDepth", 3));
+
+    private static final long MAX_RESPONSE_MILLIS = Long.getLong("mp.openapi.tck.scale.maxResponseMillis", 30000);
+    private static final long MAX_BYTES_PER_OPERATION = Long.getLong("mp.openapi.tck.scale.maxBytesPerOperation",
+            4096);
+
+    private static Map<String, Object> document;
+    private static long responseMillis;
+    private static long responseBytes;
+
+    @Deployment(testable = false)
+    public static WebArchive buildApp() {
+        return APP.createArchive("scale.war");
+    }
+
+    @Test(groups = SCALE)
+    public void testResponseTime() {
+        getDocument();
+        assertTrue(responseMillis <= MAX_RESPONSE_MILLIS, "The first response for " + APP.getOperationCount()
+                + " operations took " + responseMillis + " ms, more than " + MAX_RESPONSE_MILLIS + " ms.");
+    }
+
+    @Test(groups = SCALE)
+    public void testResponseSize() {
+        getDocument();
+        long maxBytes = MAX_BYTES_PER_OPERATION * APP.getOperationCount();
+        assertTrue(responseBytes <= maxBytes, "The document for " + APP.getOperationCount() + " operations has "
+                + responseBytes + " bytes, more than " + maxBytes + " bytes.");
+    }
+
+    @Test(groups = SCALE)
+    public void testOperations() {
+        Map<String, Object> paths = map(getDocument(), "paths");
+        Set<String> operationIds = new HashSet<>();
+        for (int r = 0; r < APP.getResources(); r++) {
+            for (int o = 0; o < APP.getOperations(); o++) {
+                String path = APP.getPath(r, o);
+                Map<String, Object> operation = map(map(paths, path), APP.getMethod(o));
+                assertNotNull(operation, "Missing operation " + APP.getMethod(o) + " " + path);
+                assertEquals(operation.get("operationId"), APP.getOperationId(r, o), "operationId of " + path);
+                assertTrue(operationIds.add((String) operation.get("operationId")));
+                assertEquals(operation.containsKey("requestBody"), APP.hasRequestBody(o), "requestBody of " + path);
+                if (APP.hasPathParameter(o)) {
+                    assertTrue(hasParameter(map(paths, path), operation, "id", "path"),
+                            "Missing path parameter of " + path);
+                }
+            }
+        }
+        assertEquals(operationIds.size(), APP.getOperationCount());
+    }
+
+    @Test(groups = SCALE)
+    public void testSchemas() {
+        for (int r = 0; r < APP.getResources(); r++) {
+            Map<String, Object> schema = getBodySchema(r);
+            for (int d = 0; d < APP.getDtoDepth(); d++) {
+                assertNotNull(schema, "Missing schema " + APP.getDtoName(r, d));
+                Map<String, Object> properties = map(schema, "properties");
+                assertNotNull(properties, "Missing properties of " + APP.getDtoName(r, d));
+                assertEquals(map(properties, "name").get("type"), "string");
+                assertEquals(map(properties, "count").get("type"), "integer");
+                assertEquals(map(properties, "labels").get("type"), "array");
+                schema = resolve(map(properties, "child"));
+            }
+        }
+    }
+
+    @Test(groups = SCALE)
+    public void testComposition() {
+        if (!APP.hasComposition()) {
+            return;
+        }
+        for (int r = 0; r < APP.getResources(); r++) {
+            Map<String, Object> pet = map(map(getBodySchema(r), "properties"), "pet");
+            assertNotNull(pet, "Missing property pet of " + APP.getDtoName(r, 0));
+            assertEquals(((List<?>) pet.get("oneOf")).size(), 2, "oneOf of " + APP.getDtoName(r, 0));
+        }
+    }
+
+    @Test(groups = {SCALE, BEAN_VALIDATION})
+    public void testConstraints() {
+        if (!APP.hasBeanValidation()) {
+            return;
+        }
+        for (int r = 0; r < APP.getResources(); r++) {
+            Map<String, Object> properties = map(getBodySchema(r), "properties");
+            Map<String, Object> name = map(properties, "name");
+            Map<String, Object> count = map(properties, "count");
+            assertNotNull(name, "Missing property name of " + APP.getDtoName(r, 0));
+            assertNotNull(count, "Missing property count of " + APP.getDtoName(r, 0));
+            // @Size, @Min and @Max, see the Jakarta Bean Validation section of the specification
+            assertEquals(name.get("minLength"), 1);
+            assertEquals(name.get("maxLength"), 64);
+            assertTrue(count.get("minimum") instanceof Number, "Missing minimum of count");
+            assertTrue(count.get("maximum") instanceof Number, "Missing maximum of count");
+            assertEquals(((Number) count.get("minimum")).intValue(), 0);
+            assertEquals(((Number) count.get("maximum")).intValue(), 1000);
+        }
+    }
+
+    private static synchronized Map<String, Object> getDocument() {
+        if (document == null) {
+            long start = System.nanoTime();
+            String body = given().accept(ContentType.JSON).when().get("/openapi").then().statusCode(200).extract()
+                    .asString();
+            responseMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            responseBytes = body.getBytes(StandardCharsets.UTF_8).length;
+            try {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> parsed = new ObjectMapper().readValue(body, Map.class);
+                document = parsed;
+            } catch (IOException e) {
+                throw new AssertionError("The document is not valid JSON", e);
+            }
+        }
+        return document;
+    }
+
+    private Map<String, Object> getBodySchema(int resource) {
+        // The request body of the first POST operation of the resource
+        assertTrue(APP.getOperations() > 1, "The resources are expected to have a POST operation.");
+        Map<String, Object> post = map(map(map(getDocument(), "paths"), APP.getPath(resource, 1)), "post");
+        Map<String, Object> content = map(resolve(map(post, "requestBody")), "content");
+        return resolve(map(map(content, "application/json"), "schema"));
+    }
+
+    private boolean hasParameter(Map<String, Object> pathItem, Map<String, Object> operation, String name, String in) {
+        for (Map<String, Object> owner : Arrays.asList(pathItem, operation)) {
+            Object parameters = owner.get("parameters");
+            if (parameters instanceof List) {
+                for (Object parameter : (List<?>) parameters) {
+                    @SuppressWarnings("unchecked")
+                    Map<String, Object> resolved = resolve((Map<String, Object>) parameter);
+                    if (name.equals(resolved.get("name")) && in.equals(resolved.get("in"))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private Map<String, Object> resolve(Map<String, Object> value) {
+        Map<String, Object> result = value;
+        for (int i = 0; i < 10 && result != null && result.get("$ref") instanceof String; i++) {
+            String ref = (String) result.get("$ref");
+            result = getDocument();
+            for (String segment : ref.replaceFirst("^#/", "").split("/")) {
+                result = map(result, segment.replace("~1", "/").replace("~0", "~"));
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> map(Map<String, Object> map, String key) {
+        return map == null ? null : (Map<String, Object>) map.get(key);
+    }
+}
@@ -0,0 +1,386 @@
+/**
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.openapi.tck.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+
+/**
+ * Generates a JAX-RS application of a configurable size and packages it as a deployable archive, to verify that an
+ * implementation handles applications which are much larger than the other TCK applications.
+ * <p>
+ * The application has a number of resource classes, each of which has a number of operations. The operations cycle
+ * through GET, POST, PUT and DELETE, and each operation has its own path and operationId, so that the expected document
+ * can be computed from the configuration. Each resource class has its own chain of DTO classes, which are nested to the
+ * configured depth. The top level DTO can have a property with a {@code oneOf} composition, and the DTO fields can have
+ * Bean Validation constraints.
+ * <p>
+ * The classes are generated as Java sources and compiled when the archive is created, so this requires a Java compiler
+ * in the runtime of the test client.
+ * <p>
+ * Example usage:
+ *
+ * <pre>
+ * <code>
+ * WebArchive war = new SyntheticApp()
+ *         .resources(250)
+ *         .operations(20)
+ *         .dtoDepth(3)
+ *         .createArchive("scale.war");
+ * </code>
+ * </pre>
+ */
+public class SyntheticApp {
+
+    /**
+     * The package of the generated classes.
+     */
+    public static final String PACKAGE = "org.eclipse.microprofile.openapi.apps.synthetic";
+
+    private static final String[] METHODS = {"get", "post", "put", "delete"};
+
+    private int resources = 10;
+    private int operations = 8;
+    private int dtoDepth = 2;
+    private boolean composition = true;
+    private boolean beanValidation = true;
+
+    public SyntheticApp resources(int resources) {
+        this.resources = resources;
+        return this;
+    }
+
+    public SyntheticApp operations(int operations) {
+        this.operations = operations;
+        return this;
+    }
+
+    public SyntheticApp dtoDepth(int dtoDepth) {
+        this.dtoDepth = Math.max(1, dtoDepth);
+        return this;
+    }
+
+    public SyntheticApp composition(boolean composition) {
+        this.composition = composition;
+        return this;
+    }
+
+    public SyntheticApp beanValidation(boolean beanValidation) {
+        this.beanValidation = beanValidation;
+        return this;
+    }
+
+    public int getResources() {
+        return resources;
+    }
+
+    public int getOperations() {
+        return operations;
+    }
+
+    public int getDtoDepth() {
+        return dtoDepth;
+    }
+
+    public boolean hasComposition() {
+        return composition;
+    }
+
+    public boolean hasBeanValidation() {
+        return beanValidation;
+    }
+
+    /**
+     * Returns the total number of operations of the application.
+     *
+     * @return the number of resources multiplied by the number of operations per resource
+     */
+    public int getOperationCount() {
+        return resources * operations;
+    }
+
+    /**
+     * Returns the path of an operation in the OpenAPI document.
+     *
+     * @param resource
+     *            the index of the resource class
+     * @param operation
+     *            the index of the operation within the resource class
+     * @return the path, e.g. {@code /resource3/op4/{id}}
+     */
+    public String getPath(int resource, int operation) {
+        return "/resource" + resource + "/op" + operation + (hasPathParameter(operation) ? "/{id}" : "");
+    }
+
+    /**
+     * Returns the HTTP method of an operation, in lower case as in the OpenAPI document.
+     *
+     * @param operation
+     *            the index of the operation within the resource class
+     * @return the HTTP method, e.g. {@code post}
+     */
+    public String getMethod(int operation) {
+        return METHODS[operation % METHODS.length];
+    }
+
+    public String getOperationId(int resource, int operation) {
+        return "resource" + resource + "Op" + operation;
+    }
+
+    public boolean hasPathParameter(int operation) {
+        return !"post".equals(getMethod(operation));
+    }
+
+    public boolean hasRequestBody(int operation) {
+        return "post".equals(getMethod(operation)) || "put".equals(getMethod(operation));
+    }
+
+    /**
+     * Returns the simple name of a DTO class, which implementations typically use as the name of its schema.
+     *
+     * @param resource
+     *            the index of the resource class
+     * @param depth
+     *            the nesting depth of the DTO, 0 for the request and response bodies
+     * @return the simple class name
+     */
+    public String getDtoName(int resource, int depth) {
+        return "Resource" + resource + "Dto" + depth;
+    }
+
+    /**
+     * Generates the sources of the application.
+     *
+     * @return a map from fully qualified class name to Java source
+     */
+    public Map<String, String> generateSources() {
+        Map<String, String> sources = new LinkedHashMap<>();
+        sources.put(PACKAGE + ".SyntheticApplication", "package " + PACKAGE + ";\n"
+                + "@jakarta.ws.rs.ApplicationPath(\"/\")\n"
+                + "public class SyntheticApplication extends jakarta.ws.rs.core.Application {\n"
+                + "}\n");
+        if (composition) {
+            sources.put(PACKAGE + ".SyntheticCat", createVariant("SyntheticCat", "meows"));
+            sources.put(PACKAGE + ".SyntheticDog", createVariant("SyntheticDog", "barks"));
+        }
+        for (int r = 0; r < resources; r++) {
+            sources.put(PACKAGE + ".Resource" + r, createResource(r));
+            for (int d = 0; d < dtoDepth; d++) {
+                sources.put(PACKAGE + "." + getDtoName(r, d), createDto(r, d));
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * Generates and compiles the application, and packages it as a web archive.
+     *
+     * @param name
+     *            the name of the archive
+     * @return the archive
+     * @throws IllegalStateException
+     *             if no Java compiler is available or the generated sources do not compile
+     */
+    public WebArchive createArchive(String name) {
+        WebArchive archive = ShrinkWrap.create(WebArchive.class, name);
+        for (Map.Entry<String, byte[]> entry : compile(generateSources()).entrySet()) {
+            archive.add(new ByteArrayAsset(entry.getValue()),
+                    "WEB-INF/classes/" + entry.getKey().replace('.', '/') + ".class");
+        }
+        return archive;
+    }
+
+    private String createResource(int r) {
+        StringBuilder source = new StringBuilder()
+                .append("package ").append(PACKAGE).append(";\n")
+                .append("import jakarta.ws.rs.*;\n")
+                .append("import jakarta.ws.rs.core.MediaType;\n")
+                .append("import org.eclipse.microprofile.openapi.annotations.Operation;\n")
+                .append("@Path(\"/resource").append(r).append("\")\n")
+                .append("@Produces(MediaType.APPLICATION_JSON)\n")
+                .append("@Consumes(MediaType.APPLICATION_JSON)\n")
+                .append("public class Resource").append(r).append(" {\n");
+        String dto = getDtoName(r, 0);
+        for (int o = 0; o < operations; o++) {
+            String method = getMethod(o);
+            source.append("    @").append(method.toUpperCase(Locale.ROOT)).append('\n')
+                    .append("    @Path(\"/op").append(o).append(hasPathParameter(o) ? "/{id}" : "").append("\")\n")
+                    .append("    @Operation(operationId = \"").append(getOperationId(r, o)).append("\")\n")
+                    .append("    public ").append("delete".equals(method) ? "void" : dto)
+                    .append(" op").append(o).append('(');
+            List<String> parameters = new ArrayList<>();
+            if (hasPathParameter(o)) {
+                parameters.add("@PathParam(\"id\") long id");
+            }
+            if ("get".equals(method)) {
+                parameters.add("@QueryParam(\"filter\") String filter");
+            }
+            if (hasRequestBody(o)) {
+                parameters.add(dto + " body");
+            }
+            source.append(String.join(", ", parameters)).append(") {\n")
+                    .append("delete".equals(method) ? "" : "        return null;\n")
+                    .append("    }\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    private String createDto(int r, int d) {
+        StringBuilder source = new StringBuilder()
+                .append("package ").append(PACKAGE).append(";\n")
+                .append("public class ").append(getDtoName(r, d)).append(" {\n");
+        if (beanValidation) {
+            source.append("    @jakarta.validation.constraints.Size(min = 1, max = 64)\n");
+        }
+        source.append("    public String name;\n");
+        if (beanValidation) {
+            source.append("    @jakarta.validation.constraints.Min(0)\n")
+                    .append("    @jakarta.validation.constraints.Max(1000)\n");
+        }
+        source.append("    public int count;\n")
+                .append("    public java.util.List<String> labels;\n");
+        if (d + 1 < dtoDepth) {
+            source.append("    public ").append(getDtoName(r, d + 1)).append(" child;\n");
+        }
+        if (composition && d == 0) {
+            source.append("    @org.eclipse.microprofile.openapi.annotations.media.Schema(oneOf = {")
+                    .append("SyntheticCat.class, SyntheticDog.class})\n")
+                    .append("    public Object pet;\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    private String createVariant(String name, String property) {
+        return "package " + PACKAGE + ";\n"
+                + "public class " + name + " {\n"
+                + "    public String name;\n"
+                + "    public boolean " + property + ";\n"
+                + "}\n";
+    }
+
+    private Map<String, byte[]> compile(Map<String, String> sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("A Java compiler is required to generate the application");
+        }
+        List<JavaFileObject> units = new ArrayList<>();
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            units.add(new SimpleJavaFileObject(toUri(source.getKey(), JavaFileObject.Kind.SOURCE),
+                    JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return source.getValue();
+                }
+            });
+        }
+
+        Map<String, ByteArrayOutputStream> classes = new LinkedHashMap<>();
+        StandardJavaFileManager standardManager = compiler.getStandardFileManager(null, null,
+                StandardCharsets.UTF_8);
+        JavaFileManager manager = new ForwardingJavaFileManager<StandardJavaFileManager>(standardManager) {
+            @Override
+            public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind,
+                    FileObject sibling) {
+                return new SimpleJavaFileObject(toUri(className, kind), kind) {
+                    @Override
+                    public OutputStream openOutputStream() {
+                        ByteArrayOutputStream out = new ByteArrayOutputStream();
+                        classes.put(className, out);
+                        return out;
+                    }
+                };
+            }
+        };
+
+        List<String> options = new ArrayList<>();
+        options.add("-classpath");
+        options.add(String.join(File.pathSeparator, classPath()));
+        options.add("-proc:none");
+        options.add("-nowarn");
+        // Target the oldest supported Java version, as the server may run on an older JVM than the test client
+        options.add("-source");
+        options.add("8");
+        options.add("-target");
+        options.add("8");
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        if (!compiler.getTask(null, manager, diagnostics, options, null, units).call()) {
+            throw new IllegalStateException("The generated application does not compile: "
+                    + diagnostics.getDiagnostics());
+        }
+
+        Map<String, byte[]> result = new LinkedHashMap<>();
+        for (Map.Entry<String, ByteArrayOutputStream> entry : classes.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().toByteArray());
+        }
+        return result;
+    }
+
+    private Set<String> classPath() {
+        // The locations of the APIs used by the generated classes, which may not be on java.class.path when the tests
+        // are run from a manifest only jar
+        Set<String> classPath = new LinkedHashSet<>();
+        classPath.add(location("jakarta.ws.rs.Path"));
+        classPath.add(location("org.eclipse.microprofile.openapi.annotations.Operation"));
+        if (beanValidation) {
+            classPath.add(location("jakarta.validation.constraints.Size"));
+        }
+        return classPath;
+    }
+
+    private static String location(String className) {
+        try {
+            Class<?> type = Class.forName(className, false, SyntheticApp.class.getClassLoader());
+            CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+            if (codeSource != null) {
+                return new File(codeSource.getLocation().toURI()).getPath();
+            }
+        } catch (ClassNotFoundException | URISyntaxException e) {
+            // Reported below
+        }
+        throw new IllegalStateException("Unable to locate " + className + " to compile the generated application");
+    }
+
+    private static URI toUri(String className, JavaFileObject.Kind kind) {
+        return URI.create("string:///" + className.replace('.', '/') + kind.extension);
+    }
+}